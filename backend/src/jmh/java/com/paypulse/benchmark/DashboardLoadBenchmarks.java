@@ -0,0 +1,71 @@
+package com.paypulse.benchmark;
+
+import com.paypulse.security.JwtService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Run once per threading mode, e.g. -p virtualThreads=false,true (virtual threads need the java21 profile on JDK 21).
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Threads(1000)
+@Fork(1)
+public class DashboardLoadBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class Client {
+        private HttpClient httpClient;
+        private HttpRequest dashboardRequest;
+
+        @Setup(Level.Trial)
+        public void connect(SeededApplication app) {
+            // Requests authenticate through the real filter chain, which needs per-thread contexts.
+            SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_THREADLOCAL);
+            JwtService jwtService = app.bean(JwtService.class);
+            String token = jwtService.generateToken(new User(app.getBenchmarkUser().getEmail(), "", List.of()), Map.of(
+                    JwtService.USER_ID_CLAIM, app.getBenchmarkUser().getId().toString(),
+                    JwtService.ROLE_CLAIM, "ROLE_USER"));
+            httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            dashboardRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + app.getPort() + "/api/dashboard"))
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public int dashboard(Client client) throws Exception {
+        HttpResponse<byte[]> response = client.httpClient.send(client.dashboardRequest, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Dashboard returned " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
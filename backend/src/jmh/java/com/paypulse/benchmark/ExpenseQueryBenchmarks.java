@@ -0,0 +1,98 @@
+package com.paypulse.benchmark;
+
+import com.paypulse.dto.ExpenseResponse;
+import com.paypulse.entity.Category;
+import com.paypulse.entity.Expense;
+import com.paypulse.repository.CategoryRepository;
+import com.paypulse.repository.ExpenseRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpenseQueryBenchmarks {
+
+    // Run at 1M rows with: -p users=10 -p expensesPerUser=100000
+
+    private static final List<String> EXPENSE_INDEXES = List.of(
+            "idx_expenses_user_date", "idx_expenses_user_category_date");
+
+    @State(Scope.Benchmark)
+    public static class Queries {
+
+        @Param({"true", "false"})
+        public boolean indexed;
+
+        private ExpenseRepository expenseRepository;
+        private Category category;
+        private LocalDate monthStart;
+        private LocalDate monthEnd;
+        private LocalDate cursorDate;
+        private UUID cursorId;
+
+        @Setup(Level.Trial)
+        public void prepare(SeededApplication app) {
+            if (!indexed) {
+                JdbcTemplate jdbc = app.bean(JdbcTemplate.class);
+                EXPENSE_INDEXES.forEach(index -> jdbc.execute("drop index " + index));
+                jdbc.execute("analyze");
+            }
+            expenseRepository = app.bean(ExpenseRepository.class);
+            category = app.bean(CategoryRepository.class)
+                    .findAllByUserOrderByNameAsc(app.getBenchmarkUser())
+                    .get(0);
+            YearMonth month = YearMonth.now().minusMonths(6);
+            monthStart = month.atDay(1);
+            monthEnd = month.atEndOfMonth();
+
+            List<ExpenseResponse> page = expenseRepository.findFirstPageByUser(app.getBenchmarkUser(), PageRequest.of(0, 1000));
+            ExpenseResponse last = page.get(page.size() - 1);
+            cursorDate = last.getExpenseDate();
+            cursorId = last.getId();
+        }
+    }
+
+    @Benchmark
+    public List<ExpenseResponse> firstPage(SeededApplication app, Queries queries) {
+        return queries.expenseRepository.findFirstPageByUser(app.getBenchmarkUser(), PageRequest.of(0, 51));
+    }
+
+    @Benchmark
+    public List<ExpenseResponse> pageAfterCursor(SeededApplication app, Queries queries) {
+        return queries.expenseRepository.findPageByUserAfter(app.getBenchmarkUser(),
+                queries.cursorDate, queries.cursorId, PageRequest.of(0, 51));
+    }
+
+    @Benchmark
+    public List<ExpenseResponse> monthRange(SeededApplication app, Queries queries) {
+        return queries.expenseRepository.findResponsesByUserAndExpenseDateBetween(
+                app.getBenchmarkUser(), queries.monthStart, queries.monthEnd);
+    }
+
+    @Benchmark
+    public List<Expense> categoryMonthRange(SeededApplication app, Queries queries) {
+        return queries.expenseRepository.findAllByUserAndCategoryAndExpenseDateBetween(
+                app.getBenchmarkUser(), queries.category, queries.monthStart, queries.monthEnd);
+    }
+}
@@ -0,0 +1,73 @@
+package com.paypulse.benchmark;
+
+import com.paypulse.config.JwtProperties;
+import com.paypulse.security.JwtService;
+import com.paypulse.security.VerifiedToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmarks {
+
+    private JwtService cachingJwtService;
+    private JwtService uncachedJwtService;
+    private UserDetails userDetails;
+    private Map<String, Object> claims;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachingJwtService = new JwtService(properties(10000));
+        uncachedJwtService = new JwtService(properties(0));
+        userDetails = new User(SeededApplication.email(0), "", List.of());
+        claims = Map.of(
+                "name", "Benchmark User",
+                JwtService.USER_ID_CLAIM, UUID.randomUUID().toString(),
+                JwtService.ROLE_CLAIM, "ROLE_USER");
+        token = cachingJwtService.generateToken(userDetails, claims);
+    }
+
+    @Benchmark
+    public String signToken() {
+        return cachingJwtService.generateToken(userDetails, claims);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyToken() {
+        return uncachedJwtService.verify(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyRecentlySeenToken() {
+        return cachingJwtService.verify(token);
+    }
+
+    private static JwtProperties properties(long verifiedTokenCacheSize) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("c4a7f9a6f4d64bc9899312850e0d5f9a5a2e27df0f9b17f1cd94b1f7b5e91234");
+        properties.setExpirationMinutes(120);
+        properties.setVerifiedTokenCacheSize(verifiedTokenCacheSize);
+        return properties;
+    }
+}
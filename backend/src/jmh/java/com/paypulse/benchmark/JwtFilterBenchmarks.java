@@ -0,0 +1,70 @@
+package com.paypulse.benchmark;
+
+import com.paypulse.security.JwtAuthenticationFilter;
+import com.paypulse.security.JwtService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class Tokens {
+        private JwtAuthenticationFilter filter;
+        private String claimsToken;
+        private String legacyToken;
+
+        @Setup(Level.Trial)
+        public void issue(SeededApplication app) {
+            filter = app.bean(JwtAuthenticationFilter.class);
+            JwtService jwtService = app.bean(JwtService.class);
+            User principal = new User(app.getBenchmarkUser().getEmail(), "", List.of());
+            claimsToken = jwtService.generateToken(principal, Map.of(
+                    JwtService.USER_ID_CLAIM, app.getBenchmarkUser().getId().toString(),
+                    JwtService.ROLE_CLAIM, "ROLE_USER"));
+            legacyToken = jwtService.generateToken(principal, Map.of("name", app.getBenchmarkUser().getFullName()));
+        }
+    }
+
+    @Benchmark
+    public Authentication filterTokenWithClaims(Tokens tokens) throws Exception {
+        return authenticate(tokens.filter, tokens.claimsToken);
+    }
+
+    @Benchmark
+    public Authentication filterLegacyToken(Tokens tokens) throws Exception {
+        return authenticate(tokens.filter, tokens.legacyToken);
+    }
+
+    private static Authentication authenticate(JwtAuthenticationFilter filter, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/dashboard");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,179 @@
+package com.paypulse.benchmark;
+
+import com.paypulse.PayPulseApplication;
+import com.paypulse.entity.User;
+import com.paypulse.repository.UserRepository;
+import com.paypulse.service.SpendRollupJob;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@State(Scope.Benchmark)
+public class SeededApplication {
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    @Param("10")
+    public int users;
+
+    @Param("2000")
+    public int expensesPerUser;
+
+    @Param("20")
+    public int categoriesPerUser;
+
+    @Param("false")
+    public boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private User benchmarkUser;
+    private TransactionTemplate openSession;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(PayPulseApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--paypulse.rollup.repair-on-startup=false",
+                        "--spring.threads.virtual.enabled=" + virtualThreads);
+        seed();
+        context.getBean(SpendRollupJob.class).run(true);
+        openSession = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        openSession.setReadOnly(true);
+
+        benchmarkUser = context.getBean(UserRepository.class)
+                .findByEmailIgnoreCase(email(0))
+                .orElseThrow();
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                benchmarkUser.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        SecurityContextHolder.clearContext();
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public <T> T inOpenSession(Supplier<T> work) {
+        return openSession.execute(status -> work.get());
+    }
+
+    public int getPort() {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    public User getBenchmarkUser() {
+        return benchmarkUser;
+    }
+
+    private void seed() {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        String passwordHash = context.getBean(PasswordEncoder.class).encode("password123");
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+
+        List<Object[]> userRows = new ArrayList<>();
+        List<Object[]> categoryRows = new ArrayList<>();
+        List<Object[]> goalRows = new ArrayList<>();
+        List<Object[]> budgetRows = new ArrayList<>();
+        List<Object[]> expenseRows = new ArrayList<>();
+
+        for (int u = 0; u < users; u++) {
+            UUID userId = UUID.randomUUID();
+            userRows.add(new Object[]{userId, email(u), passwordHash, "Benchmark User " + u, "INR"});
+
+            UUID[] categoryIds = new UUID[categoriesPerUser];
+            for (int c = 0; c < categoriesPerUser; c++) {
+                categoryIds[c] = UUID.randomUUID();
+                categoryRows.add(new Object[]{categoryIds[c], "Category " + c, "#4F46E5", "Receipt", userId});
+                if (c % 2 == 0) {
+                    budgetRows.add(new Object[]{UUID.randomUUID(), "Budget " + c, new BigDecimal("5000.00"),
+                            Date.valueOf(today.withDayOfMonth(1)), Date.valueOf(today.withDayOfMonth(today.lengthOfMonth())),
+                            c % 4 == 0, categoryIds[c], userId});
+                }
+            }
+
+            for (int g = 0; g < 3; g++) {
+                goalRows.add(new Object[]{UUID.randomUUID(), "Goal " + g, "Other", new BigDecimal("100000.00"),
+                        new BigDecimal("2500.00"), Date.valueOf(today.plusMonths(6)),
+                        Timestamp.valueOf(LocalDateTime.now().minusDays(g)), 0L, userId});
+            }
+
+            for (int e = 0; e < expensesPerUser; e++) {
+                expenseRows.add(new Object[]{UUID.randomUUID(),
+                        BigDecimal.valueOf(100 + random.nextInt(500000), 2),
+                        Date.valueOf(today.minusDays(random.nextInt(730))),
+                        "Merchant " + random.nextInt(200),
+                        "Benchmark expense " + e,
+                        categoryIds[random.nextInt(categoriesPerUser)],
+                        userId});
+                if (expenseRows.size() == INSERT_BATCH_SIZE) {
+                    insertExpenses(jdbc, userRows, categoryRows, expenseRows);
+                }
+            }
+        }
+
+        insertExpenses(jdbc, userRows, categoryRows, expenseRows);
+        jdbc.batchUpdate("insert into savings_goals (id, name, label, target_amount, saved_amount, target_date, created_at, version, user_id) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?, ?)", goalRows);
+        jdbc.batchUpdate("insert into budgets (id, name, total_amount, start_date, end_date, recurring_monthly, category_id, user_id) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?)", budgetRows);
+    }
+
+    private void insertExpenses(JdbcTemplate jdbc,
+                                List<Object[]> userRows,
+                                List<Object[]> categoryRows,
+                                List<Object[]> expenseRows) {
+        if (!userRows.isEmpty()) {
+            jdbc.batchUpdate("insert into users (id, email, password_hash, full_name, base_currency) values (?, ?, ?, ?, ?)", userRows);
+            userRows.clear();
+        }
+        if (!categoryRows.isEmpty()) {
+            jdbc.batchUpdate("insert into categories (id, name, color_hex, icon_name, user_id) values (?, ?, ?, ?, ?)", categoryRows);
+            categoryRows.clear();
+        }
+        if (!expenseRows.isEmpty()) {
+            jdbc.batchUpdate("insert into expenses (id, amount, expense_date, merchant, note, category_id, user_id) " +
+                    "values (?, ?, ?, ?, ?, ?, ?)", expenseRows);
+            expenseRows.clear();
+        }
+    }
+
+    static String email(int index) {
+        return "bench-user-" + index + "@paypulse.test";
+    }
+}
@@ -0,0 +1,90 @@
+package com.paypulse.benchmark;
+
+import com.paypulse.dto.BudgetResponse;
+import com.paypulse.dto.CategoryDto;
+import com.paypulse.dto.DashboardSummaryDto;
+import com.paypulse.dto.ExpenseRequest;
+import com.paypulse.dto.ExpenseResponse;
+import com.paypulse.service.BudgetService;
+import com.paypulse.service.CategoryService;
+import com.paypulse.service.DashboardService;
+import com.paypulse.service.ExpenseService;
+import com.paypulse.service.ReportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmarks {
+
+    // Read paths that touch lazy associations run inside a read-only transaction, mirroring the
+    // open-session-in-view the web layer provides for the same calls.
+
+    @State(Scope.Thread)
+    public static class ExpenseWrites {
+        private List<UUID> categoryIds;
+        private int counter;
+
+        @Setup(Level.Trial)
+        public void loadCategories(SeededApplication app) {
+            categoryIds = app.bean(CategoryService.class).listCategories().stream()
+                    .map(CategoryDto::getId)
+                    .toList();
+        }
+
+        ExpenseRequest next() {
+            ExpenseRequest request = new ExpenseRequest();
+            request.setAmount(BigDecimal.valueOf(1 + counter % 500));
+            request.setExpenseDate(LocalDate.now().minusDays(counter % 60));
+            request.setMerchant("Benchmark merchant");
+            request.setCategoryId(categoryIds.get(counter % categoryIds.size()));
+            counter++;
+            return request;
+        }
+    }
+
+    @Benchmark
+    public DashboardSummaryDto dashboardSummary(SeededApplication app) {
+        return app.bean(DashboardService.class).getSummary();
+    }
+
+    @Benchmark
+    public List<BudgetResponse> listBudgets(SeededApplication app) {
+        return app.inOpenSession(() -> app.bean(BudgetService.class).listBudgets());
+    }
+
+    @Benchmark
+    public ExpenseResponse saveExpense(SeededApplication app, ExpenseWrites writes) {
+        return app.bean(ExpenseService.class).saveExpense(writes.next());
+    }
+
+    @Benchmark
+    public byte[] generateMonthlyPdf(SeededApplication app) {
+        LocalDate today = LocalDate.now();
+        return app.inOpenSession(() -> app.bean(ReportService.class).generateMonthlyPdf(today.getYear(), today.getMonthValue()));
+    }
+
+    @Benchmark
+    public byte[] generateMonthlyExcel(SeededApplication app) {
+        LocalDate today = LocalDate.now();
+        return app.inOpenSession(() -> app.bean(ReportService.class).generateMonthlyExcel(today.getYear(), today.getMonthValue()));
+    }
+}
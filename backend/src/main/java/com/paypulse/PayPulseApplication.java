@@ -2,8 +2,10 @@ package com.paypulse;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class PayPulseApplication {
     public static void main(String[] args) {
         SpringApplication.run(PayPulseApplication.class, args);
@@ -0,0 +1,38 @@
+package com.paypulse.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "paypulse.dashboard")
+public class DashboardProperties {
+    private Integer workers;
+    private Integer queueCapacity;
+    private Duration sectionTimeout = Duration.ofSeconds(2);
+
+    public Integer getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(Integer workers) {
+        this.workers = workers;
+    }
+
+    public Integer getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(Integer queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getSectionTimeout() {
+        return sectionTimeout;
+    }
+
+    public void setSectionTimeout(Duration sectionTimeout) {
+        this.sectionTimeout = sectionTimeout;
+    }
+}
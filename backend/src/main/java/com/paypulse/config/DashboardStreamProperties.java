@@ -0,0 +1,47 @@
+package com.paypulse.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "paypulse.dashboard-stream")
+public class DashboardStreamProperties {
+    private int workers = 4;
+    private int bufferSize = 32;
+    private int perUserLimit = 5;
+    private Duration timeout = Duration.ofMinutes(30);
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getPerUserLimit() {
+        return perUserLimit;
+    }
+
+    public void setPerUserLimit(int perUserLimit) {
+        this.perUserLimit = perUserLimit;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -10,6 +10,9 @@ import com.paypulse.repository.CategoryRepository;
 import com.paypulse.repository.ExpenseRepository;
 import com.paypulse.repository.SavingsGoalRepository;
 import com.paypulse.repository.UserRepository;
+import com.paypulse.service.ChangeFeedService;
+import com.paypulse.service.SpendRollupService;
+import com.paypulse.service.SyncEntityType;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +20,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 @Configuration
 public class DataInitializer {
@@ -27,6 +31,8 @@ public class DataInitializer {
                                    ExpenseRepository expenseRepository,
                                    SavingsGoalRepository savingsGoalRepository,
                                    BudgetRepository budgetRepository,
+                                   ChangeFeedService changeFeedService,
+                                   SpendRollupService spendRollupService,
                                    PasswordEncoder passwordEncoder) {
         return args -> {
             if (userRepository.findByEmailIgnoreCase("saru.dharsh@gmail.com").isPresent()) {
@@ -79,6 +85,9 @@ public class DataInitializer {
             expenseRepository.save(expense1);
             expenseRepository.save(expense2);
             expenseRepository.save(expense3);
+            for (Expense expense : List.of(expense1, expense2, expense3)) {
+                spendRollupService.record(user, expense.getCategory(), expense.getExpenseDate(), expense.getAmount());
+            }
 
             SavingsGoal trip = new SavingsGoal();
             trip.setUser(user);
@@ -109,6 +118,12 @@ public class DataInitializer {
             foodBudget.setRecurringMonthly(true);
 
             budgetRepository.save(foodBudget);
+
+            changeFeedService.recordUpserts(user, SyncEntityType.CATEGORY, List.of(bills.getId(), food.getId()));
+            changeFeedService.recordUpserts(user, SyncEntityType.SAVINGS_GOAL, List.of(trip.getId(), clothes.getId()));
+            changeFeedService.recordUpserts(user, SyncEntityType.BUDGET, List.of(foodBudget.getId()));
+            changeFeedService.recordUpserts(user, SyncEntityType.EXPENSE,
+                    List.of(expense1.getId(), expense2.getId(), expense3.getId()));
         };
     }
 }
@@ -0,0 +1,18 @@
+package com.paypulse.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "paypulse.expense-batch")
+public class ExpenseBatchProperties {
+    private int maxOperations = 500;
+
+    public int getMaxOperations() {
+        return maxOperations;
+    }
+
+    public void setMaxOperations(int maxOperations) {
+        this.maxOperations = maxOperations;
+    }
+}
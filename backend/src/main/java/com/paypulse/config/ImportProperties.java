@@ -0,0 +1,36 @@
+package com.paypulse.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "paypulse.import")
+public class ImportProperties {
+    private int batchSize = 1000;
+    private int maxReportedErrors = 500;
+    private String defaultCategory = "Uncategorized";
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxReportedErrors() {
+        return maxReportedErrors;
+    }
+
+    public void setMaxReportedErrors(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public String getDefaultCategory() {
+        return defaultCategory;
+    }
+
+    public void setDefaultCategory(String defaultCategory) {
+        this.defaultCategory = defaultCategory;
+    }
+}
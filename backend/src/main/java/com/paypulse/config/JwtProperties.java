@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 public class JwtProperties {
     private String secret;
     private int expirationMinutes;
+    private long verifiedTokenCacheSize = 10000;
 
     public String getSecret() {
         return secret;
@@ -24,5 +25,12 @@ public class JwtProperties {
     public void setExpirationMinutes(int expirationMinutes) {
         this.expirationMinutes = expirationMinutes;
     }
-}
 
+    public long getVerifiedTokenCacheSize() {
+        return verifiedTokenCacheSize;
+    }
+
+    public void setVerifiedTokenCacheSize(long verifiedTokenCacheSize) {
+        this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+    }
+}
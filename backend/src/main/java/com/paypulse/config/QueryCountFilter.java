@@ -0,0 +1,72 @@
+package com.paypulse.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final QueryCounter queryCounter;
+    private final QueryMetricsProperties properties;
+    private final DistributionSummary queriesPerRequest;
+
+    public QueryCountFilter(QueryCounter queryCounter,
+                            QueryMetricsProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.queryCounter = queryCounter;
+        this.properties = properties;
+        this.queriesPerRequest = DistributionSummary.builder("paypulse.http.queries")
+                .description("SQL statements issued through Hibernate per HTTP request")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        queryCounter.start();
+        try {
+            if (properties.isExposeHeader()) {
+                QueryCountHeaderWriter headerWriter = new QueryCountHeaderWriter(response);
+                filterChain.doFilter(request, headerWriter);
+                headerWriter.writeHeader();
+            } else {
+                filterChain.doFilter(request, response);
+            }
+        } finally {
+            queriesPerRequest.record(queryCounter.stop());
+        }
+    }
+
+    private class QueryCountHeaderWriter extends OnCommittedResponseWrapper {
+
+        QueryCountHeaderWriter(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeader();
+        }
+
+        void writeHeader() {
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            if (!response.isCommitted() && !response.containsHeader(properties.getHeaderName())) {
+                response.setHeader(properties.getHeaderName(), Long.toString(queryCounter.current()));
+            }
+        }
+    }
+}
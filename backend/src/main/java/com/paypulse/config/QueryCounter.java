@@ -0,0 +1,65 @@
+package com.paypulse.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class QueryCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<AtomicLong> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        AtomicLong count = CURRENT.get();
+        if (count != null) {
+            count.incrementAndGet();
+        }
+        return sql;
+    }
+
+    public void start() {
+        CURRENT.set(new AtomicLong());
+    }
+
+    public long current() {
+        AtomicLong count = CURRENT.get();
+        return count != null ? count.get() : 0;
+    }
+
+    public long stop() {
+        long value = current();
+        CURRENT.remove();
+        return value;
+    }
+
+    public <T> Callable<T> propagate(Callable<T> task) {
+        AtomicLong count = CURRENT.get();
+        if (count == null) {
+            return task;
+        }
+        return () -> {
+            AtomicLong previous = CURRENT.get();
+            CURRENT.set(count);
+            try {
+                return task.call();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+}
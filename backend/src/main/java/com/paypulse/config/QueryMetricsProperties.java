@@ -0,0 +1,27 @@
+package com.paypulse.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "paypulse.query-metrics")
+public class QueryMetricsProperties {
+    private boolean exposeHeader;
+    private String headerName = "X-Query-Count";
+
+    public boolean isExposeHeader() {
+        return exposeHeader;
+    }
+
+    public void setExposeHeader(boolean exposeHeader) {
+        this.exposeHeader = exposeHeader;
+    }
+
+    public String getHeaderName() {
+        return headerName;
+    }
+
+    public void setHeaderName(String headerName) {
+        this.headerName = headerName;
+    }
+}
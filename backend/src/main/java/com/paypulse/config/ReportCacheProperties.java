@@ -0,0 +1,57 @@
+package com.paypulse.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+@Component
+@ConfigurationProperties(prefix = "paypulse.report-cache")
+public class ReportCacheProperties {
+    private boolean enabled = true;
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "paypulse-report-cache");
+    private DataSize memoryMaxSize = DataSize.ofMegabytes(64);
+    private DataSize memoryMaxEntrySize = DataSize.ofMegabytes(2);
+    private DataSize diskMaxSize = DataSize.ofGigabytes(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    public DataSize getMemoryMaxSize() {
+        return memoryMaxSize;
+    }
+
+    public void setMemoryMaxSize(DataSize memoryMaxSize) {
+        this.memoryMaxSize = memoryMaxSize;
+    }
+
+    public DataSize getMemoryMaxEntrySize() {
+        return memoryMaxEntrySize;
+    }
+
+    public void setMemoryMaxEntrySize(DataSize memoryMaxEntrySize) {
+        this.memoryMaxEntrySize = memoryMaxEntrySize;
+    }
+
+    public DataSize getDiskMaxSize() {
+        return diskMaxSize;
+    }
+
+    public void setDiskMaxSize(DataSize diskMaxSize) {
+        this.diskMaxSize = diskMaxSize;
+    }
+}
@@ -0,0 +1,57 @@
+package com.paypulse.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "paypulse.report-jobs")
+public class ReportJobProperties {
+    private int workers = 2;
+    private int queueCapacity = 50;
+    private int perUserLimit = 2;
+    private Path spoolDirectory = Path.of(System.getProperty("java.io.tmpdir"), "paypulse-report-jobs");
+    private Duration retention = Duration.ofHours(1);
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getPerUserLimit() {
+        return perUserLimit;
+    }
+
+    public void setPerUserLimit(int perUserLimit) {
+        this.perUserLimit = perUserLimit;
+    }
+
+    public Path getSpoolDirectory() {
+        return spoolDirectory;
+    }
+
+    public void setSpoolDirectory(Path spoolDirectory) {
+        this.spoolDirectory = spoolDirectory;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+}
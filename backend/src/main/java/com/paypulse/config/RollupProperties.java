@@ -0,0 +1,36 @@
+package com.paypulse.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "paypulse.rollup")
+public class RollupProperties {
+    private boolean repairOnStartup = false;
+    private boolean repairOnDrift = true;
+    private int userBatchSize = 100;
+
+    public boolean isRepairOnStartup() {
+        return repairOnStartup;
+    }
+
+    public void setRepairOnStartup(boolean repairOnStartup) {
+        this.repairOnStartup = repairOnStartup;
+    }
+
+    public boolean isRepairOnDrift() {
+        return repairOnDrift;
+    }
+
+    public void setRepairOnDrift(boolean repairOnDrift) {
+        this.repairOnDrift = repairOnDrift;
+    }
+
+    public int getUserBatchSize() {
+        return userBatchSize;
+    }
+
+    public void setUserBatchSize(int userBatchSize) {
+        this.userBatchSize = userBatchSize;
+    }
+}
@@ -0,0 +1,85 @@
+package com.paypulse.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class SchemaIndexVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaIndexVerifier.class);
+
+    private static final Map<String, List<String>> EXPECTED_INDEXES = Map.of(
+            "expenses", List.of("idx_expenses_user_date", "idx_expenses_user_category_date",
+                    "idx_expenses_category", "idx_expenses_savings_goal"),
+            "budgets", List.of("idx_budgets_user_start", "idx_budgets_category"),
+            "categories", List.of("idx_categories_user_name"),
+            "savings_goals", List.of("idx_savings_goals_user_created"),
+            "daily_spend_rollup", List.of("idx_daily_spend_rollup_user_date", "idx_daily_spend_rollup_category"),
+            "sync_changes", List.of("idx_sync_changes_user_version"));
+
+    private final DataSource dataSource;
+    private final SchemaProperties properties;
+
+    public SchemaIndexVerifier(DataSource dataSource, SchemaProperties properties) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyIndexes() throws SQLException {
+        List<String> missing = findMissingIndexes();
+        if (missing.isEmpty()) {
+            log.info("Verified {} expected indexes", EXPECTED_INDEXES.values().stream().mapToInt(List::size).sum());
+            return;
+        }
+        if (properties.isFailOnMissingIndex()) {
+            throw new IllegalStateException("Missing database indexes: " + missing);
+        }
+        log.warn("Missing database indexes, queries on these tables will scan: {}", missing);
+    }
+
+    public List<String> findMissingIndexes() throws SQLException {
+        List<String> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (Map.Entry<String, List<String>> table : EXPECTED_INDEXES.entrySet()) {
+                Set<String> present = indexNames(metaData, connection.getSchema(), table.getKey());
+                for (String index : table.getValue()) {
+                    if (!present.contains(index)) {
+                        missing.add(table.getKey() + "." + index);
+                    }
+                }
+            }
+        }
+        return missing;
+    }
+
+    private static Set<String> indexNames(DatabaseMetaData metaData, String schema, String table) throws SQLException {
+        String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        Set<String> names = new HashSet<>();
+        try (ResultSet indexes = metaData.getIndexInfo(null, schema, tableName, false, true)) {
+            while (indexes.next()) {
+                String name = indexes.getString("INDEX_NAME");
+                if (name != null) {
+                    names.add(name.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,18 @@
+package com.paypulse.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "paypulse.schema")
+public class SchemaProperties {
+    private boolean failOnMissingIndex;
+
+    public boolean isFailOnMissingIndex() {
+        return failOnMissingIndex;
+    }
+
+    public void setFailOnMissingIndex(boolean failOnMissingIndex) {
+        this.failOnMissingIndex = failOnMissingIndex;
+    }
+}
@@ -0,0 +1,38 @@
+package com.paypulse.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "paypulse.search")
+public class SearchProperties {
+    private long maxIndexedExpenses = 2_000_000;
+    private Duration idleTtl = Duration.ofMinutes(30);
+    private int maxExpansions = 256;
+
+    public long getMaxIndexedExpenses() {
+        return maxIndexedExpenses;
+    }
+
+    public void setMaxIndexedExpenses(long maxIndexedExpenses) {
+        this.maxIndexedExpenses = maxIndexedExpenses;
+    }
+
+    public Duration getIdleTtl() {
+        return idleTtl;
+    }
+
+    public void setIdleTtl(Duration idleTtl) {
+        this.idleTtl = idleTtl;
+    }
+
+    public int getMaxExpansions() {
+        return maxExpansions;
+    }
+
+    public void setMaxExpansions(int maxExpansions) {
+        this.maxExpansions = maxExpansions;
+    }
+}
@@ -0,0 +1,32 @@
+package com.paypulse.controller;
+
+import com.paypulse.dto.SpendingSeriesResponse;
+import com.paypulse.service.AnalyticsService;
+import com.paypulse.service.SeriesGranularity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @GetMapping("/series")
+    public ResponseEntity<SpendingSeriesResponse> series(
+            @RequestParam(defaultValue = "MONTH") SeriesGranularity granularity,
+            @RequestParam(required = false) LocalDate start,
+            @RequestParam(required = false) LocalDate end,
+            @RequestParam(defaultValue = "false") boolean byCategory) {
+        return ResponseEntity.ok(analyticsService.series(granularity, start, end, byCategory));
+    }
+}
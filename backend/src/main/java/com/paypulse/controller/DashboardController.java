@@ -2,24 +2,35 @@ package com.paypulse.controller;
 
 import com.paypulse.dto.DashboardSummaryDto;
 import com.paypulse.service.DashboardService;
+import com.paypulse.service.DashboardStreamService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/dashboard")
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardStreamService dashboardStreamService;
 
-    public DashboardController(DashboardService dashboardService) {
+    public DashboardController(DashboardService dashboardService,
+                               DashboardStreamService dashboardStreamService) {
         this.dashboardService = dashboardService;
+        this.dashboardStreamService = dashboardStreamService;
     }
 
     @GetMapping
     public ResponseEntity<DashboardSummaryDto> getDashboardSummary() {
         return ResponseEntity.ok(dashboardService.getSummary());
     }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboardDeltas() {
+        return dashboardStreamService.subscribe();
+    }
 }
 
@@ -1,12 +1,32 @@
 package com.paypulse.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.paypulse.dto.ExpenseBatchRequest;
+import com.paypulse.dto.ExpenseBatchResponse;
+import com.paypulse.dto.ExpensePageResponse;
 import com.paypulse.dto.ExpenseRequest;
 import com.paypulse.dto.ExpenseResponse;
+import com.paypulse.dto.ImportResult;
+import com.paypulse.entity.User;
+import com.paypulse.importer.ImportFormat;
+import com.paypulse.service.CurrentUserService;
+import com.paypulse.service.ExpenseBatchService;
+import com.paypulse.service.ExpenseImportService;
+import com.paypulse.service.ExpenseSearchService;
 import com.paypulse.service.ExpenseService;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -16,9 +36,26 @@ import java.util.UUID;
 public class ExpenseController {
 
     private final ExpenseService expenseService;
+    private final CurrentUserService currentUserService;
+    private final ExpenseImportService expenseImportService;
+    private final ExpenseBatchService expenseBatchService;
+    private final ExpenseSearchService expenseSearchService;
+    private final ObjectWriter ndjsonWriter;
 
-    public ExpenseController(ExpenseService expenseService) {
+    public ExpenseController(ExpenseService expenseService,
+                             CurrentUserService currentUserService,
+                             ExpenseImportService expenseImportService,
+                             ExpenseBatchService expenseBatchService,
+                             ExpenseSearchService expenseSearchService,
+                             ObjectMapper objectMapper) {
         this.expenseService = expenseService;
+        this.currentUserService = currentUserService;
+        this.expenseImportService = expenseImportService;
+        this.expenseBatchService = expenseBatchService;
+        this.expenseSearchService = expenseSearchService;
+        this.ndjsonWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     @GetMapping
@@ -26,6 +63,32 @@ public class ExpenseController {
         return ResponseEntity.ok(expenseService.listExpenses());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<ExpensePageResponse> listExpensePage(@RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(expenseService.listExpensePage(cursor, size));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ExpensePageResponse> searchExpenses(@RequestParam String q,
+                                                              @RequestParam(defaultValue = "false") boolean fuzzy,
+                                                              @RequestParam(required = false) LocalDate start,
+                                                              @RequestParam(required = false) LocalDate end,
+                                                              @RequestParam(required = false) UUID categoryId,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(expenseSearchService.search(q, fuzzy, start, end, categoryId, cursor, size));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamExpenses() {
+        User user = currentUserService.getCurrentUser();
+        StreamingResponseBody body = out -> expenseService.streamExpenses(user, expense -> writeLine(out, expense));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/range")
     public ResponseEntity<List<ExpenseResponse>> listExpensesForRange(@RequestParam LocalDate start,
                                                                       @RequestParam LocalDate end) {
@@ -38,6 +101,18 @@ public class ExpenseController {
         return ResponseEntity.ok(expenseService.saveExpense(request));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<ExpenseBatchResponse> applyBatch(@Valid @RequestBody ExpenseBatchRequest request) {
+        return ResponseEntity.ok(expenseBatchService.apply(request.getOperations()));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResult> importExpenses(@RequestParam("file") MultipartFile file,
+                                                       @RequestParam(required = false) ImportFormat format,
+                                                       @RequestParam(required = false) String defaultCategory) {
+        return ResponseEntity.ok(expenseImportService.importExpenses(file, format, defaultCategory));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ExpenseResponse> updateExpense(@PathVariable UUID id,
                                                          @Valid @RequestBody ExpenseRequest request) {
@@ -50,5 +125,13 @@ public class ExpenseController {
         expenseService.deleteExpense(id);
         return ResponseEntity.noContent().build();
     }
-}
 
+    private void writeLine(OutputStream out, ExpenseResponse expense) {
+        try {
+            ndjsonWriter.writeValue(out, expense);
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
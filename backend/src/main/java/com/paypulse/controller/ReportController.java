@@ -1,55 +1,136 @@
 package com.paypulse.controller;
 
+import com.paypulse.dto.ReportJobRequest;
+import com.paypulse.dto.ReportJobResponse;
+import com.paypulse.entity.User;
+import com.paypulse.service.CurrentUserService;
+import com.paypulse.service.ReportCacheKey;
+import com.paypulse.service.ReportFormat;
+import com.paypulse.service.ReportJob;
+import com.paypulse.service.ReportJobService;
 import com.paypulse.service.ReportService;
-import org.springframework.core.io.ByteArrayResource;
+import jakarta.validation.Valid;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/reports")
 public class ReportController {
 
+    private static final MediaType EXCEL_MEDIA_TYPE =
+            MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
     private final ReportService reportService;
+    private final CurrentUserService currentUserService;
+
+    private final ReportJobService reportJobService;
 
-    public ReportController(ReportService reportService) {
+    public ReportController(ReportService reportService,
+                            CurrentUserService currentUserService,
+                            ReportJobService reportJobService) {
         this.reportService = reportService;
+        this.currentUserService = currentUserService;
+        this.reportJobService = reportJobService;
+    }
+
+    @PostMapping("/jobs")
+    public ResponseEntity<ReportJobResponse> submitJob(@Valid @RequestBody ReportJobRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(reportJobService.submit(request));
+    }
+
+    @GetMapping("/jobs")
+    public ResponseEntity<List<ReportJobResponse>> listJobs() {
+        return ResponseEntity.ok(reportJobService.listJobs());
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<ReportJobResponse> getJob(@PathVariable UUID id) {
+        return ResponseEntity.ok(reportJobService.getJob(id));
+    }
+
+    @GetMapping("/jobs/{id}/download")
+    public ResponseEntity<Resource> downloadJob(@PathVariable UUID id) {
+        ReportJob job = reportJobService.getCompletedJob(id);
+        MediaType mediaType = job.getFormat() == ReportFormat.PDF ? MediaType.APPLICATION_PDF : EXCEL_MEDIA_TYPE;
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=paypulse-report-" + job.getStart() + "-to-" + job.getEnd() + "." + job.getFormat().getExtension())
+                .contentType(mediaType)
+                .body(reportJobService.download(job));
+    }
+
+    @DeleteMapping("/jobs/{id}")
+    public ResponseEntity<ReportJobResponse> cancelJob(@PathVariable UUID id) {
+        return ResponseEntity.ok(reportJobService.cancel(id));
     }
 
     @GetMapping("/monthly/pdf")
-    public ResponseEntity<ByteArrayResource> downloadMonthlyPdf(@RequestParam(required = false) Integer year,
-                                                                @RequestParam(required = false) Integer month) {
-        LocalDate today = LocalDate.now();
-        int targetYear = year != null ? year : today.getYear();
-        int targetMonth = month != null ? month : today.getMonthValue();
-        byte[] bytes = reportService.generateMonthlyPdf(targetYear, targetMonth);
-        ByteArrayResource resource = new ByteArrayResource(bytes);
+    public ResponseEntity<?> downloadMonthlyPdf(@RequestParam(required = false) Integer year,
+                                                       @RequestParam(required = false) Integer month,
+                                                       WebRequest webRequest) {
+        return downloadMonthly(ReportFormat.PDF, MediaType.APPLICATION_PDF, year, month, webRequest);
+    }
+
+    @GetMapping("/pdf")
+    public ResponseEntity<StreamingResponseBody> downloadPdf(@RequestParam LocalDate start,
+                                                             @RequestParam LocalDate end) {
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("Report end date must not be before start date");
+        }
+        User user = currentUserService.getCurrentUser();
+        StreamingResponseBody body = out -> reportService.writePdf(user, start, end, out);
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=paypulse-report-" + targetYear + "-" + targetMonth + ".pdf")
-                .contentLength(bytes.length)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=paypulse-report-" + start + "-to-" + end + ".pdf")
                 .contentType(MediaType.APPLICATION_PDF)
-                .body(resource);
+                .body(body);
     }
 
     @GetMapping("/monthly/excel")
-    public ResponseEntity<ByteArrayResource> downloadMonthlyExcel(@RequestParam(required = false) Integer year,
-                                                                  @RequestParam(required = false) Integer month) {
+    public ResponseEntity<?> downloadMonthlyExcel(@RequestParam(required = false) Integer year,
+                                                         @RequestParam(required = false) Integer month,
+                                                         WebRequest webRequest) {
+        return downloadMonthly(ReportFormat.EXCEL, EXCEL_MEDIA_TYPE, year, month, webRequest);
+    }
+
+    private ResponseEntity<?> downloadMonthly(ReportFormat format,
+                                              MediaType mediaType,
+                                              Integer year,
+                                              Integer month,
+                                              WebRequest webRequest) {
         LocalDate today = LocalDate.now();
         int targetYear = year != null ? year : today.getYear();
         int targetMonth = month != null ? month : today.getMonthValue();
-        byte[] bytes = reportService.generateMonthlyExcel(targetYear, targetMonth);
-        ByteArrayResource resource = new ByteArrayResource(bytes);
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=paypulse-report-" + targetYear + "-" + targetMonth + ".xlsx")
-                .contentLength(bytes.length)
-                .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(resource);
+        User user = currentUserService.getCurrentUser();
+        ReportCacheKey key = reportService.monthlyReportKey(user, format, targetYear, targetMonth);
+        if (webRequest.checkNotModified(key.getETag())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(key.getETag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=paypulse-report-" + targetYear + "-" + targetMonth + "." + format.getExtension())
+                .contentType(mediaType);
+        if (!reportService.isMonthlyReportCacheEnabled()) {
+            StreamingResponseBody body = out -> reportService.writeMonthlyReport(user, key, out);
+            return response.body(body);
+        }
+        return response.body(reportService.getMonthlyReport(user, key));
     }
 }
-
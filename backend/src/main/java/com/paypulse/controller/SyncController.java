@@ -0,0 +1,25 @@
+package com.paypulse.controller;
+
+import com.paypulse.dto.SyncChangesResponse;
+import com.paypulse.service.SyncService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<SyncChangesResponse> changes(@RequestParam(defaultValue = "0") long since) {
+        return ResponseEntity.ok(syncService.changesSince(since));
+    }
+}
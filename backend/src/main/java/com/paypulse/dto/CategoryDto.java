@@ -13,6 +13,16 @@ public class CategoryDto {
     private String colorHex;
     private String iconName;
 
+    public CategoryDto() {
+    }
+
+    public CategoryDto(UUID id, String name, String colorHex, String iconName) {
+        this.id = id;
+        this.name = name;
+        this.colorHex = colorHex;
+        this.iconName = iconName;
+    }
+
     public UUID getId() {
         return id;
     }
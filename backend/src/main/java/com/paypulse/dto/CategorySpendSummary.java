@@ -0,0 +1,37 @@
+package com.paypulse.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class CategorySpendSummary {
+    private UUID categoryId;
+    private String categoryName;
+    private BigDecimal totalSpent;
+    private BigDecimal spentOnDay;
+
+    public CategorySpendSummary(UUID categoryId,
+                                String categoryName,
+                                BigDecimal totalSpent,
+                                BigDecimal spentOnDay) {
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.totalSpent = totalSpent != null ? totalSpent : BigDecimal.ZERO;
+        this.spentOnDay = spentOnDay != null ? spentOnDay : BigDecimal.ZERO;
+    }
+
+    public UUID getCategoryId() {
+        return categoryId;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public BigDecimal getTotalSpent() {
+        return totalSpent;
+    }
+
+    public BigDecimal getSpentOnDay() {
+        return spentOnDay;
+    }
+}
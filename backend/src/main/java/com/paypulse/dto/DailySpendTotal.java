@@ -0,0 +1,35 @@
+package com.paypulse.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public class DailySpendTotal {
+    private UUID categoryId;
+    private LocalDate spendDate;
+    private BigDecimal totalAmount;
+    private long expenseCount;
+
+    public DailySpendTotal(UUID categoryId, LocalDate spendDate, BigDecimal totalAmount, long expenseCount) {
+        this.categoryId = categoryId;
+        this.spendDate = spendDate;
+        this.totalAmount = totalAmount != null ? totalAmount : BigDecimal.ZERO;
+        this.expenseCount = expenseCount;
+    }
+
+    public UUID getCategoryId() {
+        return categoryId;
+    }
+
+    public LocalDate getSpendDate() {
+        return spendDate;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public long getExpenseCount() {
+        return expenseCount;
+    }
+}
@@ -0,0 +1,45 @@
+package com.paypulse.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+public class DashboardDeltaDto {
+    private BigDecimal totalSpentThisMonth;
+    private BigDecimal totalSpentToday;
+    private BigDecimal totalSavings;
+    private Map<String, BigDecimal> spendingByCategory;
+    private Map<UUID, BigDecimal> savedAmountByGoal;
+
+    public DashboardDeltaDto(BigDecimal totalSpentThisMonth,
+                             BigDecimal totalSpentToday,
+                             BigDecimal totalSavings,
+                             Map<String, BigDecimal> spendingByCategory,
+                             Map<UUID, BigDecimal> savedAmountByGoal) {
+        this.totalSpentThisMonth = totalSpentThisMonth;
+        this.totalSpentToday = totalSpentToday;
+        this.totalSavings = totalSavings;
+        this.spendingByCategory = spendingByCategory;
+        this.savedAmountByGoal = savedAmountByGoal;
+    }
+
+    public BigDecimal getTotalSpentThisMonth() {
+        return totalSpentThisMonth;
+    }
+
+    public BigDecimal getTotalSpentToday() {
+        return totalSpentToday;
+    }
+
+    public BigDecimal getTotalSavings() {
+        return totalSavings;
+    }
+
+    public Map<String, BigDecimal> getSpendingByCategory() {
+        return spendingByCategory;
+    }
+
+    public Map<UUID, BigDecimal> getSavedAmountByGoal() {
+        return savedAmountByGoal;
+    }
+}
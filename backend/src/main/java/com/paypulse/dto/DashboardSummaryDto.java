@@ -12,6 +12,7 @@ public class DashboardSummaryDto {
     private List<SavingsGoalResponse> savingsGoalsPreview;
     private Map<String, BigDecimal> spendingByCategory;
     private List<ExpenseResponse> recentExpenses;
+    private List<String> degradedSections;
 
     public DashboardSummaryDto(BigDecimal totalSavings,
                                BigDecimal totalSpentThisMonth,
@@ -19,7 +20,8 @@ public class DashboardSummaryDto {
                                int activeSavingsGoals,
                                List<SavingsGoalResponse> savingsGoalsPreview,
                                Map<String, BigDecimal> spendingByCategory,
-                               List<ExpenseResponse> recentExpenses) {
+                               List<ExpenseResponse> recentExpenses,
+                               List<String> degradedSections) {
         this.totalSavings = totalSavings;
         this.totalSpentThisMonth = totalSpentThisMonth;
         this.totalSpentToday = totalSpentToday;
@@ -27,6 +29,7 @@ public class DashboardSummaryDto {
         this.savingsGoalsPreview = savingsGoalsPreview;
         this.spendingByCategory = spendingByCategory;
         this.recentExpenses = recentExpenses;
+        this.degradedSections = degradedSections;
     }
 
     public BigDecimal getTotalSavings() {
@@ -56,5 +59,8 @@ public class DashboardSummaryDto {
     public List<ExpenseResponse> getRecentExpenses() {
         return recentExpenses;
     }
-}
 
+    public List<String> getDegradedSections() {
+        return degradedSections;
+    }
+}
@@ -0,0 +1,7 @@
+package com.paypulse.dto;
+
+public enum ExpenseBatchAction {
+    CREATE,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,57 @@
+package com.paypulse.dto;
+
+import java.util.UUID;
+
+public class ExpenseBatchItemResult {
+    private int index;
+    private String clientId;
+    private ExpenseBatchAction action;
+    private boolean applied;
+    private UUID id;
+    private ExpenseResponse expense;
+    private String error;
+
+    public ExpenseBatchItemResult(int index,
+                                  String clientId,
+                                  ExpenseBatchAction action,
+                                  boolean applied,
+                                  UUID id,
+                                  ExpenseResponse expense,
+                                  String error) {
+        this.index = index;
+        this.clientId = clientId;
+        this.action = action;
+        this.applied = applied;
+        this.id = id;
+        this.expense = expense;
+        this.error = error;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getClientId() {
+        return clientId;
+    }
+
+    public ExpenseBatchAction getAction() {
+        return action;
+    }
+
+    public boolean isApplied() {
+        return applied;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public ExpenseResponse getExpense() {
+        return expense;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
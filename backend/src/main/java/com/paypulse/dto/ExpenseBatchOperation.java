@@ -0,0 +1,101 @@
+package com.paypulse.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public class ExpenseBatchOperation {
+
+    @NotNull
+    private ExpenseBatchAction action;
+
+    private String clientId;
+
+    private UUID id;
+
+    private BigDecimal amount;
+
+    private LocalDate expenseDate;
+
+    private String merchant;
+
+    private String note;
+
+    private UUID categoryId;
+
+    private UUID savingsGoalId;
+
+    public ExpenseBatchAction getAction() {
+        return action;
+    }
+
+    public void setAction(ExpenseBatchAction action) {
+        this.action = action;
+    }
+
+    public String getClientId() {
+        return clientId;
+    }
+
+    public void setClientId(String clientId) {
+        this.clientId = clientId;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public LocalDate getExpenseDate() {
+        return expenseDate;
+    }
+
+    public void setExpenseDate(LocalDate expenseDate) {
+        this.expenseDate = expenseDate;
+    }
+
+    public String getMerchant() {
+        return merchant;
+    }
+
+    public void setMerchant(String merchant) {
+        this.merchant = merchant;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+
+    public UUID getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(UUID categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public UUID getSavingsGoalId() {
+        return savingsGoalId;
+    }
+
+    public void setSavingsGoalId(UUID savingsGoalId) {
+        this.savingsGoalId = savingsGoalId;
+    }
+}
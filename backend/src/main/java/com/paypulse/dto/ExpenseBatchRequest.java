@@ -0,0 +1,21 @@
+package com.paypulse.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public class ExpenseBatchRequest {
+
+    @NotEmpty
+    @Valid
+    private List<ExpenseBatchOperation> operations;
+
+    public List<ExpenseBatchOperation> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<ExpenseBatchOperation> operations) {
+        this.operations = operations;
+    }
+}
@@ -0,0 +1,27 @@
+package com.paypulse.dto;
+
+import java.util.List;
+
+public class ExpenseBatchResponse {
+    private int applied;
+    private int failed;
+    private List<ExpenseBatchItemResult> results;
+
+    public ExpenseBatchResponse(int applied, int failed, List<ExpenseBatchItemResult> results) {
+        this.applied = applied;
+        this.failed = failed;
+        this.results = results;
+    }
+
+    public int getApplied() {
+        return applied;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public List<ExpenseBatchItemResult> getResults() {
+        return results;
+    }
+}
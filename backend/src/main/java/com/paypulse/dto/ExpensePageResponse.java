@@ -0,0 +1,21 @@
+package com.paypulse.dto;
+
+import java.util.List;
+
+public class ExpensePageResponse {
+    private List<ExpenseResponse> items;
+    private String nextCursor;
+
+    public ExpensePageResponse(List<ExpenseResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ExpenseResponse> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
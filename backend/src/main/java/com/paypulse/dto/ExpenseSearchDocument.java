@@ -0,0 +1,40 @@
+package com.paypulse.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public class ExpenseSearchDocument {
+    private UUID id;
+    private LocalDate expenseDate;
+    private UUID categoryId;
+    private String merchant;
+    private String note;
+
+    public ExpenseSearchDocument(UUID id, LocalDate expenseDate, UUID categoryId, String merchant, String note) {
+        this.id = id;
+        this.expenseDate = expenseDate;
+        this.categoryId = categoryId;
+        this.merchant = merchant;
+        this.note = note;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public LocalDate getExpenseDate() {
+        return expenseDate;
+    }
+
+    public UUID getCategoryId() {
+        return categoryId;
+    }
+
+    public String getMerchant() {
+        return merchant;
+    }
+
+    public String getNote() {
+        return note;
+    }
+}
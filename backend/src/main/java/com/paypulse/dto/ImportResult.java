@@ -0,0 +1,63 @@
+package com.paypulse.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportResult {
+    private int rowsRead;
+    private int rowsImported;
+    private int rowsSkipped;
+    private int rowsFailed;
+    private boolean errorsTruncated;
+    private final List<ImportRowError> errors = new ArrayList<>();
+    private final int maxReportedErrors;
+
+    public ImportResult(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public void rowRead() {
+        rowsRead++;
+    }
+
+    public void rowsImported(int count) {
+        rowsImported += count;
+    }
+
+    public void rowSkipped() {
+        rowsSkipped++;
+    }
+
+    public void rowFailed(int line, String message) {
+        rowsFailed++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new ImportRowError(line, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    public int getRowsRead() {
+        return rowsRead;
+    }
+
+    public int getRowsImported() {
+        return rowsImported;
+    }
+
+    public int getRowsSkipped() {
+        return rowsSkipped;
+    }
+
+    public int getRowsFailed() {
+        return rowsFailed;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public List<ImportRowError> getErrors() {
+        return errors;
+    }
+}
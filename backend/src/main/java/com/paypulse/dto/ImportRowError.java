@@ -0,0 +1,19 @@
+package com.paypulse.dto;
+
+public class ImportRowError {
+    private int line;
+    private String message;
+
+    public ImportRowError(int line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,69 @@
+package com.paypulse.dto;
+
+import com.paypulse.service.ReportFormat;
+import com.paypulse.service.ReportJobStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public class ReportJobResponse {
+    private UUID id;
+    private ReportFormat format;
+    private LocalDate start;
+    private LocalDate end;
+    private ReportJobStatus status;
+    private Instant createdAt;
+    private Instant finishedAt;
+    private String error;
+
+    public ReportJobResponse(UUID id,
+                             ReportFormat format,
+                             LocalDate start,
+                             LocalDate end,
+                             ReportJobStatus status,
+                             Instant createdAt,
+                             Instant finishedAt,
+                             String error) {
+        this.id = id;
+        this.format = format;
+        this.start = start;
+        this.end = end;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.finishedAt = finishedAt;
+        this.error = error;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public ReportFormat getFormat() {
+        return format;
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public LocalDate getEnd() {
+        return end;
+    }
+
+    public ReportJobStatus getStatus() {
+        return status;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
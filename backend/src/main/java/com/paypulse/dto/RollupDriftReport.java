@@ -0,0 +1,72 @@
+package com.paypulse.dto;
+
+public class RollupDriftReport {
+    private int usersChecked;
+    private int rowsChecked;
+    private int missingRows;
+    private int staleRows;
+    private int orphanRows;
+    private boolean repaired;
+
+    public RollupDriftReport(boolean repaired) {
+        this.repaired = repaired;
+    }
+
+    public void userChecked() {
+        usersChecked++;
+    }
+
+    public void rowChecked() {
+        rowsChecked++;
+    }
+
+    public void missingRow() {
+        missingRows++;
+    }
+
+    public void staleRow() {
+        staleRows++;
+    }
+
+    public void orphanRow() {
+        orphanRows++;
+    }
+
+    public boolean hasDrift() {
+        return missingRows > 0 || staleRows > 0 || orphanRows > 0;
+    }
+
+    public int getUsersChecked() {
+        return usersChecked;
+    }
+
+    public int getRowsChecked() {
+        return rowsChecked;
+    }
+
+    public int getMissingRows() {
+        return missingRows;
+    }
+
+    public int getStaleRows() {
+        return staleRows;
+    }
+
+    public int getOrphanRows() {
+        return orphanRows;
+    }
+
+    public boolean isRepaired() {
+        return repaired;
+    }
+
+    @Override
+    public String toString() {
+        return "usersChecked=" + usersChecked +
+                ", rowsChecked=" + rowsChecked +
+                ", missingRows=" + missingRows +
+                ", staleRows=" + staleRows +
+                ", orphanRows=" + orphanRows +
+                ", repaired=" + repaired;
+    }
+}
@@ -1,8 +1,10 @@
 package com.paypulse.dto;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 public class SavingsGoalResponse {
@@ -23,23 +25,29 @@ public class SavingsGoalResponse {
                                String label,
                                BigDecimal targetAmount,
                                BigDecimal savedAmount,
-                               BigDecimal remainingAmount,
-                               int progressPercent,
                                LocalDate targetDate,
-                               LocalDateTime createdAt,
-                               long daysLeft,
-                               BigDecimal dailyAmountNeeded) {
+                               LocalDateTime createdAt) {
         this.id = id;
         this.name = name;
         this.label = label;
         this.targetAmount = targetAmount;
         this.savedAmount = savedAmount;
-        this.remainingAmount = remainingAmount;
-        this.progressPercent = progressPercent;
         this.targetDate = targetDate;
         this.createdAt = createdAt;
-        this.daysLeft = daysLeft;
-        this.dailyAmountNeeded = dailyAmountNeeded;
+        this.remainingAmount = targetAmount.subtract(savedAmount).max(BigDecimal.ZERO);
+        this.progressPercent = targetAmount.compareTo(BigDecimal.ZERO) == 0
+                ? 0
+                : savedAmount
+                .multiply(BigDecimal.valueOf(100))
+                .divide(targetAmount, 0, RoundingMode.HALF_UP)
+                .intValue();
+        LocalDate today = LocalDate.now();
+        this.daysLeft = targetDate != null && targetDate.isAfter(today)
+                ? ChronoUnit.DAYS.between(today, targetDate)
+                : 0;
+        this.dailyAmountNeeded = (daysLeft > 0 && remainingAmount.compareTo(BigDecimal.ZERO) > 0)
+                ? remainingAmount.divide(BigDecimal.valueOf(daysLeft), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
     }
 
     public UUID getId() {
@@ -0,0 +1,47 @@
+package com.paypulse.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public class SpendBucketTotal {
+    private UUID categoryId;
+    private String categoryName;
+    private LocalDate bucketDate;
+    private BigDecimal totalAmount;
+    private long expenseCount;
+
+    public SpendBucketTotal(UUID categoryId, String categoryName, LocalDate bucketDate,
+                            BigDecimal totalAmount, Long expenseCount) {
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.bucketDate = bucketDate;
+        this.totalAmount = totalAmount != null ? totalAmount : BigDecimal.ZERO;
+        this.expenseCount = expenseCount != null ? expenseCount : 0;
+    }
+
+    public SpendBucketTotal(UUID categoryId, String categoryName, Integer year, Integer month,
+                            BigDecimal totalAmount, Long expenseCount) {
+        this(categoryId, categoryName, LocalDate.of(year, month, 1), totalAmount, expenseCount);
+    }
+
+    public UUID getCategoryId() {
+        return categoryId;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public LocalDate getBucketDate() {
+        return bucketDate;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public long getExpenseCount() {
+        return expenseCount;
+    }
+}
@@ -0,0 +1,28 @@
+package com.paypulse.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public class SpendWindow {
+    private final UUID categoryId;
+    private final LocalDate start;
+    private final LocalDate end;
+
+    public SpendWindow(UUID categoryId, LocalDate start, LocalDate end) {
+        this.categoryId = categoryId;
+        this.start = start;
+        this.end = end;
+    }
+
+    public UUID getCategoryId() {
+        return categoryId;
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public LocalDate getEnd() {
+        return end;
+    }
+}
@@ -0,0 +1,42 @@
+package com.paypulse.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public class SpendingSeriesPoint {
+    private LocalDate bucketStart;
+    private UUID categoryId;
+    private String categoryName;
+    private BigDecimal totalAmount;
+    private long expenseCount;
+
+    public SpendingSeriesPoint(LocalDate bucketStart, UUID categoryId, String categoryName,
+                               BigDecimal totalAmount, long expenseCount) {
+        this.bucketStart = bucketStart;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.totalAmount = totalAmount;
+        this.expenseCount = expenseCount;
+    }
+
+    public LocalDate getBucketStart() {
+        return bucketStart;
+    }
+
+    public UUID getCategoryId() {
+        return categoryId;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public long getExpenseCount() {
+        return expenseCount;
+    }
+}
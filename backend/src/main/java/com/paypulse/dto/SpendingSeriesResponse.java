@@ -0,0 +1,43 @@
+package com.paypulse.dto;
+
+import com.paypulse.service.SeriesGranularity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class SpendingSeriesResponse {
+    private SeriesGranularity granularity;
+    private LocalDate start;
+    private LocalDate end;
+    private boolean byCategory;
+    private List<SpendingSeriesPoint> points;
+
+    public SpendingSeriesResponse(SeriesGranularity granularity, LocalDate start, LocalDate end,
+                                  boolean byCategory, List<SpendingSeriesPoint> points) {
+        this.granularity = granularity;
+        this.start = start;
+        this.end = end;
+        this.byCategory = byCategory;
+        this.points = points;
+    }
+
+    public SeriesGranularity getGranularity() {
+        return granularity;
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public LocalDate getEnd() {
+        return end;
+    }
+
+    public boolean isByCategory() {
+        return byCategory;
+    }
+
+    public List<SpendingSeriesPoint> getPoints() {
+        return points;
+    }
+}
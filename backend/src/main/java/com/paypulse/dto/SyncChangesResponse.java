@@ -0,0 +1,57 @@
+package com.paypulse.dto;
+
+import java.util.List;
+
+public class SyncChangesResponse {
+    private long since;
+    private long version;
+    private List<CategoryDto> categories;
+    private List<SavingsGoalResponse> savingsGoals;
+    private List<BudgetResponse> budgets;
+    private List<ExpenseResponse> expenses;
+    private List<SyncTombstone> deleted;
+
+    public SyncChangesResponse(long since,
+                               long version,
+                               List<CategoryDto> categories,
+                               List<SavingsGoalResponse> savingsGoals,
+                               List<BudgetResponse> budgets,
+                               List<ExpenseResponse> expenses,
+                               List<SyncTombstone> deleted) {
+        this.since = since;
+        this.version = version;
+        this.categories = categories;
+        this.savingsGoals = savingsGoals;
+        this.budgets = budgets;
+        this.expenses = expenses;
+        this.deleted = deleted;
+    }
+
+    public long getSince() {
+        return since;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<CategoryDto> getCategories() {
+        return categories;
+    }
+
+    public List<SavingsGoalResponse> getSavingsGoals() {
+        return savingsGoals;
+    }
+
+    public List<BudgetResponse> getBudgets() {
+        return budgets;
+    }
+
+    public List<ExpenseResponse> getExpenses() {
+        return expenses;
+    }
+
+    public List<SyncTombstone> getDeleted() {
+        return deleted;
+    }
+}
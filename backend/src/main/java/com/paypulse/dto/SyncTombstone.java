@@ -0,0 +1,29 @@
+package com.paypulse.dto;
+
+import com.paypulse.service.SyncEntityType;
+
+import java.util.UUID;
+
+public class SyncTombstone {
+    private SyncEntityType type;
+    private UUID id;
+    private long version;
+
+    public SyncTombstone(SyncEntityType type, UUID id, long version) {
+        this.type = type;
+        this.id = id;
+        this.version = version;
+    }
+
+    public SyncEntityType getType() {
+        return type;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
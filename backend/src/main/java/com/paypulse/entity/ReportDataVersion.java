@@ -0,0 +1,34 @@
+package com.paypulse.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "report_data_versions",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "period_year", "period_month"}))
+public class ReportDataVersion {
+
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    @Column(nullable = false)
+    private int periodYear;
+
+    @Column(nullable = false)
+    private int periodMonth;
+
+    @Column(nullable = false)
+    private long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+}
@@ -0,0 +1,151 @@
+package com.paypulse.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class CsvImportReader implements ImportRowReader {
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("dd-MM-yyyy"),
+            DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+
+    private static final Map<String, String> COLUMN_ALIASES = Map.ofEntries(
+            Map.entry("date", "date"),
+            Map.entry("expensedate", "date"),
+            Map.entry("transactiondate", "date"),
+            Map.entry("amount", "amount"),
+            Map.entry("category", "category"),
+            Map.entry("merchant", "merchant"),
+            Map.entry("payee", "merchant"),
+            Map.entry("description", "merchant"),
+            Map.entry("note", "note"),
+            Map.entry("memo", "note"));
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private int lineNumber;
+
+    public CsvImportReader(Reader source) throws IOException {
+        this.reader = new BufferedReader(source);
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("\uFEFF", "").replaceAll("[\\s_-]", "").toLowerCase(Locale.ROOT);
+            String column = COLUMN_ALIASES.get(name);
+            if (column != null) {
+                columns.putIfAbsent(column, i);
+            }
+        }
+        if (!columns.containsKey("date") || !columns.containsKey("amount")) {
+            throw new IllegalArgumentException("CSV header must include date and amount columns");
+        }
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        List<String> fields;
+        int recordLine;
+        do {
+            recordLine = lineNumber + 1;
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        LocalDate date = parseDate(field(fields, "date"));
+        if (date == null) {
+            return ImportRow.failed(recordLine, "Invalid date: " + field(fields, "date"));
+        }
+        BigDecimal amount;
+        try {
+            amount = ImportValues.parseAmount(field(fields, "amount"));
+        } catch (NumberFormatException e) {
+            return ImportRow.failed(recordLine, "Invalid amount: " + field(fields, "amount"));
+        }
+        if (amount.signum() <= 0) {
+            return ImportRow.failed(recordLine, "Amount must be positive");
+        }
+        return ImportRow.of(recordLine, date, amount,
+                ImportValues.clean(field(fields, "category"), ImportValues.MERCHANT_LENGTH),
+                ImportValues.clean(field(fields, "merchant"), ImportValues.MERCHANT_LENGTH),
+                ImportValues.clean(field(fields, "note"), ImportValues.NOTE_LENGTH));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        return index != null && index < fields.size() ? fields.get(index) : "";
+    }
+
+    private static LocalDate parseDate(String value) {
+        String trimmed = value.trim();
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(trimmed, format);
+            } catch (DateTimeParseException ignored) {
+                // try the next supported format
+            }
+        }
+        return null;
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        lineNumber++;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
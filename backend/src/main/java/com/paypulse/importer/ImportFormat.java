@@ -0,0 +1,28 @@
+package com.paypulse.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+public enum ImportFormat {
+    CSV,
+    OFX;
+
+    public ImportRowReader open(InputStream in) throws IOException {
+        InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        return this == CSV ? new CsvImportReader(reader) : new OfxImportReader(reader);
+    }
+
+    public static ImportFormat fromFileName(String fileName) {
+        String name = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ofx") || name.endsWith(".qfx")) {
+            return OFX;
+        }
+        throw new IllegalArgumentException("Unsupported import file type, expected .csv or .ofx");
+    }
+}
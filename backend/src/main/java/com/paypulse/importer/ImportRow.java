@@ -0,0 +1,82 @@
+package com.paypulse.importer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class ImportRow {
+    private final int lineNumber;
+    private final LocalDate expenseDate;
+    private final BigDecimal amount;
+    private final String category;
+    private final String merchant;
+    private final String note;
+    private final String error;
+    private final boolean skipped;
+
+    private ImportRow(int lineNumber,
+                      LocalDate expenseDate,
+                      BigDecimal amount,
+                      String category,
+                      String merchant,
+                      String note,
+                      String error,
+                      boolean skipped) {
+        this.lineNumber = lineNumber;
+        this.expenseDate = expenseDate;
+        this.amount = amount;
+        this.category = category;
+        this.merchant = merchant;
+        this.note = note;
+        this.error = error;
+        this.skipped = skipped;
+    }
+
+    public static ImportRow of(int lineNumber,
+                               LocalDate expenseDate,
+                               BigDecimal amount,
+                               String category,
+                               String merchant,
+                               String note) {
+        return new ImportRow(lineNumber, expenseDate, amount, category, merchant, note, null, false);
+    }
+
+    public static ImportRow failed(int lineNumber, String error) {
+        return new ImportRow(lineNumber, null, null, null, null, null, error, false);
+    }
+
+    public static ImportRow skipped(int lineNumber) {
+        return new ImportRow(lineNumber, null, null, null, null, null, null, true);
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public LocalDate getExpenseDate() {
+        return expenseDate;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getMerchant() {
+        return merchant;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isSkipped() {
+        return skipped;
+    }
+}
@@ -0,0 +1,9 @@
+package com.paypulse.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface ImportRowReader extends Closeable {
+
+    ImportRow next() throws IOException;
+}
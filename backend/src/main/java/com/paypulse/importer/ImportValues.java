@@ -0,0 +1,41 @@
+package com.paypulse.importer;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class ImportValues {
+
+    static final int MERCHANT_LENGTH = 255;
+    static final int NOTE_LENGTH = 512;
+
+    // Optional sign and currency symbol, then either plain digits or comma-grouped thousands, then an optional
+    // dot decimal part. Anything else ("1.234,56", "1,5", "1e5") is ambiguous and rejected rather than guessed.
+    private static final Pattern AMOUNT = Pattern.compile(
+            "(?<sign>[+-]?)\\s*[\u20B9$\u20AC\u00A3]?\\s*(?<number>(?:\\d{1,3}(?:,\\d{3})+|\\d+)(?:\\.\\d+)?)");
+
+    private ImportValues() {
+    }
+
+    static BigDecimal parseAmount(String value) {
+        String trimmed = value.trim();
+        Matcher matcher = AMOUNT.matcher(trimmed);
+        if (!matcher.matches()) {
+            throw new NumberFormatException(trimmed.isEmpty() ? "Missing amount" : "Unrecognised amount: " + trimmed);
+        }
+        String digits = matcher.group("sign") + matcher.group("number").replace(",", "");
+        return new BigDecimal(digits).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    static String clean(String value, int maxLength) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        return trimmed.length() > maxLength ? trimmed.substring(0, maxLength) : trimmed;
+    }
+}
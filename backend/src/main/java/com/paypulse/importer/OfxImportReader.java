@@ -0,0 +1,118 @@
+package com.paypulse.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public class OfxImportReader implements ImportRowReader {
+
+    private static final DateTimeFormatter OFX_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final BufferedReader reader;
+    private int lineNumber = 1;
+    private int pending = -1;
+
+    public OfxImportReader(Reader source) {
+        this.reader = new BufferedReader(source);
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String tag;
+        while ((tag = nextTag()) != null && !tag.equals("STMTTRN")) {
+            readText();
+        }
+        if (tag == null) {
+            return null;
+        }
+        int transactionLine = lineNumber;
+        Map<String, String> values = new HashMap<>();
+        while ((tag = nextTag()) != null && !tag.equals("/STMTTRN")) {
+            String text = readText().trim();
+            if (!tag.startsWith("/") && !text.isEmpty()) {
+                values.put(tag, unescape(text));
+            }
+        }
+        return toRow(transactionLine, values);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private ImportRow toRow(int line, Map<String, String> values) {
+        String posted = values.getOrDefault("DTPOSTED", "");
+        LocalDate date;
+        try {
+            date = LocalDate.parse(posted.length() >= 8 ? posted.substring(0, 8) : posted, OFX_DATE);
+        } catch (DateTimeParseException e) {
+            return ImportRow.failed(line, "Invalid DTPOSTED: " + posted);
+        }
+        BigDecimal amount;
+        try {
+            amount = ImportValues.parseAmount(values.getOrDefault("TRNAMT", ""));
+        } catch (NumberFormatException e) {
+            return ImportRow.failed(line, "Invalid TRNAMT: " + values.get("TRNAMT"));
+        }
+        if (amount.signum() >= 0) {
+            return ImportRow.skipped(line);
+        }
+        String merchant = values.containsKey("NAME") ? values.get("NAME") : values.get("PAYEE");
+        return ImportRow.of(line, date, amount.negate(), null,
+                ImportValues.clean(merchant, ImportValues.MERCHANT_LENGTH),
+                ImportValues.clean(values.get("MEMO"), ImportValues.NOTE_LENGTH));
+    }
+
+    private String nextTag() throws IOException {
+        int c;
+        while ((c = read()) != -1 && c != '<') {
+            // skip text outside of the current element
+        }
+        if (c == -1) {
+            return null;
+        }
+        StringBuilder tag = new StringBuilder();
+        while ((c = read()) != -1 && c != '>') {
+            tag.append((char) c);
+        }
+        return tag.toString().trim().toUpperCase(Locale.ROOT);
+    }
+
+    private String readText() throws IOException {
+        StringBuilder text = new StringBuilder();
+        int c;
+        while ((c = read()) != -1 && c != '<') {
+            text.append((char) c);
+        }
+        if (c == '<') {
+            pending = c;
+        }
+        return text.toString();
+    }
+
+    private int read() throws IOException {
+        if (pending != -1) {
+            int c = pending;
+            pending = -1;
+            return c;
+        }
+        int c = reader.read();
+        if (c == '\n') {
+            lineNumber++;
+        }
+        return c;
+    }
+
+    private static String unescape(String value) {
+        return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&apos;", "'").replace("&amp;", "&");
+    }
+}
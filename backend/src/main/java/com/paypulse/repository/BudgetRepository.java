@@ -3,14 +3,26 @@ package com.paypulse.repository;
 import com.paypulse.entity.Budget;
 import com.paypulse.entity.Category;
 import com.paypulse.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface BudgetRepository extends JpaRepository<Budget, UUID> {
+    @EntityGraph(attributePaths = "category")
     List<Budget> findAllByUserOrderByStartDateDesc(User user);
+
+    @EntityGraph(attributePaths = "category")
+    List<Budget> findAllByUserAndIdIn(User user, Collection<UUID> ids);
+
+    @Query("select b.id from Budget b where b.user = :user and b.category.id in :categoryIds")
+    List<UUID> findIdsByUserAndCategoryIdIn(@Param("user") User user, @Param("categoryIds") Collection<UUID> categoryIds);
+
     List<Budget> findAllByUserAndCategory(User user, Category category);
     List<Budget> findAllByUserAndStartDateLessThanEqualAndEndDateGreaterThanEqual(User user, LocalDate start, LocalDate end);
 }
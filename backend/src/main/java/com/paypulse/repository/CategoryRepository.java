@@ -1,15 +1,43 @@
 package com.paypulse.repository;
 
+import com.paypulse.dto.CategoryDto;
 import com.paypulse.entity.Category;
 import com.paypulse.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
+    String LIST_CACHE_REGION = "category-lists";
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LIST_CACHE_REGION)
+    })
     List<Category> findAllByUserOrderByNameAsc(User user);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LIST_CACHE_REGION)
+    })
+    @Query("select new com.paypulse.dto.CategoryDto(c.id, c.name, c.colorHex, c.iconName) " +
+            "from Category c where c.user = :user order by c.name asc")
+    List<CategoryDto> findResponsesByUser(@Param("user") User user);
+
+    @Query("select new com.paypulse.dto.CategoryDto(c.id, c.name, c.colorHex, c.iconName) " +
+            "from Category c where c.user = :user and c.id in :ids order by c.name asc")
+    List<CategoryDto> findResponsesByUserAndIdIn(@Param("user") User user, @Param("ids") Collection<UUID> ids);
+
     Optional<Category> findByUserAndNameIgnoreCase(User user, String name);
+
+    List<Category> findAllByUserAndIdIn(User user, Collection<UUID> ids);
 }
 
@@ -0,0 +1,67 @@
+package com.paypulse.repository;
+
+import com.paypulse.dto.CategorySpendSummary;
+import com.paypulse.dto.SpendBucketTotal;
+import com.paypulse.entity.Category;
+import com.paypulse.entity.DailySpendRollup;
+import com.paypulse.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface DailySpendRollupRepository extends JpaRepository<DailySpendRollup, UUID> {
+
+    List<DailySpendRollup> findAllByUser(User user);
+
+    @Modifying
+    @Query("delete from DailySpendRollup r where r.category = :category")
+    int deleteAllByCategory(@Param("category") Category category);
+
+    @Query("select coalesce(sum(r.totalAmount), 0) from DailySpendRollup r " +
+            "where r.user = :user and r.spendDate between :start and :end")
+    BigDecimal sumByUserAndDateRange(@Param("user") User user, @Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    @Query("select coalesce(sum(r.totalAmount), 0) from DailySpendRollup r where r.user = :user and r.spendDate = :date")
+    BigDecimal sumByUserAndDate(@Param("user") User user, @Param("date") LocalDate date);
+
+    @Query("select coalesce(sum(r.totalAmount), 0) from DailySpendRollup r " +
+            "where r.user = :user and r.category = :category and r.spendDate between :start and :end")
+    BigDecimal sumByUserAndCategoryAndDateRange(@Param("user") User user,
+                                                @Param("category") Category category,
+                                                @Param("start") LocalDate start,
+                                                @Param("end") LocalDate end);
+
+    @Query("select new com.paypulse.dto.CategorySpendSummary(c.id, c.name, sum(r.totalAmount), " +
+            "sum(case when r.spendDate = :day then r.totalAmount else 0 end)) " +
+            "from DailySpendRollup r join r.category c " +
+            "where r.user = :user and r.spendDate between :start and :end " +
+            "group by c.id, c.name order by c.name asc")
+    List<CategorySpendSummary> summarizeByCategory(@Param("user") User user,
+                                                   @Param("start") LocalDate start,
+                                                   @Param("end") LocalDate end,
+                                                   @Param("day") LocalDate day);
+
+    @Query("select new com.paypulse.dto.SpendBucketTotal(c.id, c.name, r.spendDate, " +
+            "sum(r.totalAmount), sum(r.expenseCount)) " +
+            "from DailySpendRollup r join r.category c " +
+            "where r.user = :user and r.spendDate between :start and :end " +
+            "group by c.id, c.name, r.spendDate")
+    List<SpendBucketTotal> summarizeByDay(@Param("user") User user,
+                                          @Param("start") LocalDate start,
+                                          @Param("end") LocalDate end);
+
+    @Query("select new com.paypulse.dto.SpendBucketTotal(c.id, c.name, year(r.spendDate), month(r.spendDate), " +
+            "sum(r.totalAmount), sum(r.expenseCount)) " +
+            "from DailySpendRollup r join r.category c " +
+            "where r.user = :user and r.spendDate between :start and :end " +
+            "group by c.id, c.name, year(r.spendDate), month(r.spendDate)")
+    List<SpendBucketTotal> summarizeByMonth(@Param("user") User user,
+                                            @Param("start") LocalDate start,
+                                            @Param("end") LocalDate end);
+}
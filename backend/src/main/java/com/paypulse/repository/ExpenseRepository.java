@@ -1,35 +1,92 @@
 package com.paypulse.repository;
 
+import com.paypulse.dto.DailySpendTotal;
+import com.paypulse.dto.ExpenseResponse;
+import com.paypulse.dto.ExpenseSearchDocument;
 import com.paypulse.entity.Category;
 import com.paypulse.entity.Expense;
 import com.paypulse.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface ExpenseRepository extends JpaRepository<Expense, UUID> {
 
-    List<Expense> findAllByUserOrderByExpenseDateDesc(User user);
+    String EXPENSE_RESPONSE_SELECT = "select new com.paypulse.dto.ExpenseResponse(e.id, e.amount, e.expenseDate, " +
+            "e.merchant, e.note, c.id, c.name, c.colorHex, g.id) " +
+            "from Expense e join e.category c left join e.savingsGoal g ";
 
-    List<Expense> findAllByUserAndExpenseDateBetweenOrderByExpenseDateDesc(User user, LocalDate start, LocalDate end);
+    String SEARCH_DOCUMENT_SELECT = "select new com.paypulse.dto.ExpenseSearchDocument(e.id, e.expenseDate, " +
+            "e.category.id, e.merchant, e.note) from Expense e ";
+
+    List<Expense> findAllByUserAndIdIn(User user, Collection<UUID> ids);
 
     List<Expense> findAllByUserAndCategoryAndExpenseDateBetween(User user, Category category, LocalDate start, LocalDate end);
 
-    @Query("select coalesce(sum(e.amount), 0) from Expense e where e.user = :user and e.expenseDate between :start and :end")
-    BigDecimal sumByUserAndDateRange(@Param("user") User user, @Param("start") LocalDate start, @Param("end") LocalDate end);
+    @Query("select new com.paypulse.dto.DailySpendTotal(e.category.id, e.expenseDate, sum(e.amount), count(e)) " +
+            "from Expense e where e.user = :user group by e.category.id, e.expenseDate")
+    List<DailySpendTotal> summarizeDailyByUser(@Param("user") User user);
 
-    @Query("select coalesce(sum(e.amount), 0) from Expense e where e.user = :user and e.expenseDate = :date")
-    BigDecimal sumByUserAndDate(@Param("user") User user, @Param("date") LocalDate date);
+    @Query(EXPENSE_RESPONSE_SELECT +
+            "where e.user = :user " +
+            "order by e.expenseDate desc, e.id desc")
+    List<ExpenseResponse> findResponsesByUser(@Param("user") User user);
 
-    @Query("select coalesce(sum(e.amount), 0) from Expense e where e.user = :user and e.category = :category and e.expenseDate between :start and :end")
-    BigDecimal sumByUserAndCategoryAndDateRange(@Param("user") User user,
-                                                @Param("category") Category category,
-                                                @Param("start") LocalDate start,
-                                                @Param("end") LocalDate end);
-}
+    @Query(EXPENSE_RESPONSE_SELECT +
+            "where e.user = :user and e.expenseDate between :start and :end " +
+            "order by e.expenseDate desc, e.id desc")
+    List<ExpenseResponse> findResponsesByUserAndExpenseDateBetween(@Param("user") User user,
+                                                                   @Param("start") LocalDate start,
+                                                                   @Param("end") LocalDate end);
+
+    @Query(EXPENSE_RESPONSE_SELECT +
+            "where e.user = :user and e.id in :ids " +
+            "order by e.expenseDate desc, e.id desc")
+    List<ExpenseResponse> findResponsesByUserAndIdIn(@Param("user") User user, @Param("ids") Collection<UUID> ids);
+
+    @Query(EXPENSE_RESPONSE_SELECT +
+            "where e.user = :user " +
+            "order by e.expenseDate desc, e.id desc")
+    List<ExpenseResponse> findFirstPageByUser(@Param("user") User user, Pageable pageable);
+
+    @Query(EXPENSE_RESPONSE_SELECT +
+            "where e.user = :user " +
+            "and (e.expenseDate < :expenseDate or (e.expenseDate = :expenseDate and e.id < :id)) " +
+            "order by e.expenseDate desc, e.id desc")
+    List<ExpenseResponse> findPageByUserAfter(@Param("user") User user,
+                                              @Param("expenseDate") LocalDate expenseDate,
+                                              @Param("id") UUID id,
+                                              Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(EXPENSE_RESPONSE_SELECT +
+            "where e.user = :user " +
+            "order by e.expenseDate desc, e.id desc")
+    Stream<ExpenseResponse> streamAllByUser(@Param("user") User user);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(EXPENSE_RESPONSE_SELECT +
+            "where e.user = :user and e.expenseDate between :start and :end " +
+            "order by e.expenseDate desc, e.id desc")
+    Stream<ExpenseResponse> streamAllByUserAndExpenseDateBetween(@Param("user") User user,
+                                                                 @Param("start") LocalDate start,
+                                                                 @Param("end") LocalDate end);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(SEARCH_DOCUMENT_SELECT + "where e.user = :user")
+    Stream<ExpenseSearchDocument> streamSearchDocumentsByUser(@Param("user") User user);
+
+    @Query(SEARCH_DOCUMENT_SELECT + "where e.user.id = :userId and e.id in :ids")
+    List<ExpenseSearchDocument> findSearchDocumentsByUserIdAndIdIn(@Param("userId") UUID userId,
+                                                                   @Param("ids") Collection<UUID> ids);
+}
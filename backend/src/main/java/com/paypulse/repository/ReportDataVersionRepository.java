@@ -0,0 +1,40 @@
+package com.paypulse.repository;
+
+import com.paypulse.entity.ReportDataVersion;
+import com.paypulse.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ReportDataVersionRepository extends JpaRepository<ReportDataVersion, UUID> {
+
+    @Query("select v.version from ReportDataVersion v " +
+            "where v.user = :user and v.periodYear = :year and v.periodMonth = :month")
+    Optional<Long> findVersion(@Param("user") User user, @Param("year") int year, @Param("month") int month);
+
+    @Query("select v from ReportDataVersion v " +
+            "where v.user = :user and v.periodYear * 12 + v.periodMonth between :fromIndex and :toIndex")
+    List<ReportDataVersion> findAllInPeriods(@Param("user") User user,
+                                             @Param("fromIndex") int fromIndex,
+                                             @Param("toIndex") int toIndex);
+
+    @Modifying
+    @Query("update ReportDataVersion v set v.version = v.version + 1 " +
+            "where v.user = :user and v.periodYear = :year and v.periodMonth = :month")
+    int increment(@Param("user") User user, @Param("year") int year, @Param("month") int month);
+
+    @Modifying
+    @Query(value = "insert into report_data_versions (id, user_id, period_year, period_month, version) " +
+            "values (:id, :userId, :year, :month, 0) on conflict do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("userId") UUID userId,
+                       @Param("year") int year, @Param("month") int month);
+
+    @Modifying
+    @Query("update ReportDataVersion v set v.version = v.version + 1 where v.user = :user")
+    int incrementAllByUser(@Param("user") User user);
+}
@@ -1,13 +1,34 @@
 package com.paypulse.repository;
 
+import com.paypulse.dto.SavingsGoalResponse;
 import com.paypulse.entity.SavingsGoal;
 import com.paypulse.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface SavingsGoalRepository extends JpaRepository<SavingsGoal, UUID> {
-    List<SavingsGoal> findAllByUserOrderByCreatedAtDesc(User user);
+    @Query("select new com.paypulse.dto.SavingsGoalResponse(g.id, g.name, g.label, g.targetAmount, g.savedAmount, " +
+            "g.targetDate, g.createdAt) " +
+            "from SavingsGoal g where g.user = :user order by g.createdAt desc")
+    List<SavingsGoalResponse> findResponsesByUser(@Param("user") User user);
+
+    @Query("select new com.paypulse.dto.SavingsGoalResponse(g.id, g.name, g.label, g.targetAmount, g.savedAmount, " +
+            "g.targetDate, g.createdAt) " +
+            "from SavingsGoal g where g.user = :user and g.id in :ids order by g.createdAt desc")
+    List<SavingsGoalResponse> findResponsesByUserAndIdIn(@Param("user") User user, @Param("ids") Collection<UUID> ids);
+
+    List<SavingsGoal> findAllByUserAndIdIn(User user, Collection<UUID> ids);
+
+    @Modifying
+    @Query("update SavingsGoal g set g.savedAmount = greatest(0, g.savedAmount + :delta), g.version = g.version + 1 " +
+            "where g.id = :id and g.user = :user")
+    int applySavedAmountDelta(@Param("user") User user, @Param("id") UUID id, @Param("delta") BigDecimal delta);
 }
 
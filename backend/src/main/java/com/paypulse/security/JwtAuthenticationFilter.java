@@ -1,28 +1,47 @@
 package com.paypulse.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final PayPulseUserDetailsService userDetailsService;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
+    private final Map<String, List<GrantedAuthority>> authoritiesByRole = new ConcurrentHashMap<>();
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
 
-    public JwtAuthenticationFilter(JwtService jwtService, PayPulseUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService,
+                                   PayPulseUserDetailsService userDetailsService,
+                                   MeterRegistry meterRegistry) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.authenticatedTimer = authenticationTimer(meterRegistry, "authenticated");
+        this.rejectedTimer = authenticationTimer(meterRegistry, "rejected");
     }
 
     @Override
@@ -30,28 +49,47 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         final String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
-        final String token;
-        final String username;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        token = authHeader.substring(7);
-        username = jwtService.extractUsername(token);
-
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            if (jwtService.isTokenValid(token, userDetails)) {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            long startNanos = System.nanoTime();
+            Optional<UserDetails> authenticated = jwtService.verify(authHeader.substring(7))
+                    .map(this::toUserDetails);
+            authenticated.ifPresent(userDetails -> {
                 UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                authToken.setDetails(detailsSource.buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+            });
+            (authenticated.isPresent() ? authenticatedTimer : rejectedTimer)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
         }
 
         filterChain.doFilter(request, response);
     }
-}
 
+    private static Timer authenticationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("paypulse.security.jwt.authentication")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private UserDetails toUserDetails(VerifiedToken token) {
+        if (token.hasIdentityClaims()) {
+            List<GrantedAuthority> authorities = authoritiesByRole.computeIfAbsent(token.getRole(),
+                    role -> List.of(new SimpleGrantedAuthority(role)));
+            return new User(token.getUsername(), "", authorities);
+        }
+        try {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(token.getUsername());
+            return token.getUsername().equalsIgnoreCase(userDetails.getUsername()) ? userDetails : null;
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+}
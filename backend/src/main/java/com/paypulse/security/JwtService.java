@@ -1,7 +1,11 @@
 package com.paypulse.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.paypulse.config.JwtProperties;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -9,20 +13,35 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class JwtService {
 
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+
     private final JwtProperties properties;
     private final SecretKey secretKey;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtService(JwtProperties properties) {
         this.properties = properties;
         this.secretKey = Keys.hmacShaKeyFor(properties.getSecret().getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(properties.getVerifiedTokenCacheSize())
+                .expireAfterWrite(Duration.ofMinutes(properties.getExpirationMinutes()))
+                .build();
     }
 
     public String generateToken(UserDetails userDetails, Map<String, Object> extraClaims) {
@@ -37,25 +56,37 @@ public class JwtService {
                 .compact();
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return username.equalsIgnoreCase(userDetails.getUsername()) && !isTokenExpired(token);
-    }
-
-    public String extractUsername(String token) {
-        return extractAllClaims(token).getSubject();
-    }
+    public Optional<VerifiedToken> verify(String token) {
+        Instant now = Instant.now();
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            if (cached.isExpired(now)) {
+                verifiedTokens.invalidate(token);
+                return Optional.empty();
+            }
+            return Optional.of(cached);
+        }
 
-    private boolean isTokenExpired(String token) {
-        return extractAllClaims(token).getExpiration().before(new Date());
+        VerifiedToken verified;
+        try {
+            verified = toVerifiedToken(parser.parseClaimsJws(token).getBody());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (verified.getUsername() == null || verified.isExpired(now)) {
+            return Optional.empty();
+        }
+        verifiedTokens.put(token, verified);
+        return Optional.of(verified);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        return new VerifiedToken(
+                claims.getSubject(),
+                userId != null ? UUID.fromString(userId) : null,
+                claims.get(ROLE_CLAIM, String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
     }
 }
-
@@ -1,7 +1,7 @@
 package com.paypulse.security;
 
 import com.paypulse.entity.User;
-import com.paypulse.repository.UserRepository;
+import com.paypulse.service.CurrentUserService;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -13,20 +13,22 @@ import java.util.Collections;
 @Service
 public class PayPulseUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    public static final String DEFAULT_ROLE = "ROLE_USER";
 
-    public PayPulseUserDetailsService(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    private final CurrentUserService currentUserService;
+
+    public PayPulseUserDetailsService(CurrentUserService currentUserService) {
+        this.currentUserService = currentUserService;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByEmailIgnoreCase(username)
+        User user = currentUserService.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
         return new org.springframework.security.core.userdetails.User(
                 user.getEmail(),
                 user.getPasswordHash(),
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+                Collections.singletonList(new SimpleGrantedAuthority(DEFAULT_ROLE))
         );
     }
 }
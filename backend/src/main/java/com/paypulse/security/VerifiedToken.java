@@ -0,0 +1,42 @@
+package com.paypulse.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public class VerifiedToken {
+    private final String username;
+    private final UUID userId;
+    private final String role;
+    private final Instant expiresAt;
+
+    public VerifiedToken(String username, UUID userId, String role, Instant expiresAt) {
+        this.username = username;
+        this.userId = userId;
+        this.role = role;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean hasIdentityClaims() {
+        return userId != null && role != null;
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt == null || !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,170 @@
+package com.paypulse.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.paypulse.config.AnalyticsProperties;
+import com.paypulse.dto.SpendBucketTotal;
+import com.paypulse.dto.SpendingSeriesPoint;
+import com.paypulse.dto.SpendingSeriesResponse;
+import com.paypulse.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+public class AnalyticsService {
+
+    private static final Comparator<SpendingSeriesPoint> BY_CATEGORY_NAME =
+            Comparator.comparing(SpendingSeriesPoint::getCategoryName, String.CASE_INSENSITIVE_ORDER);
+
+    private final CurrentUserService currentUserService;
+    private final SpendRollupService spendRollupService;
+    private final ReportDataVersionService reportDataVersionService;
+    private final AnalyticsProperties properties;
+    private final Cache<SeriesCacheKey, List<SpendingSeriesPoint>> closedBuckets;
+
+    public AnalyticsService(CurrentUserService currentUserService,
+                            SpendRollupService spendRollupService,
+                            ReportDataVersionService reportDataVersionService,
+                            AnalyticsProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.currentUserService = currentUserService;
+        this.spendRollupService = spendRollupService;
+        this.reportDataVersionService = reportDataVersionService;
+        this.properties = properties;
+        this.closedBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaximumSize())
+                .expireAfterAccess(properties.getCacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, closedBuckets, "spendingSeries");
+    }
+
+    @Transactional(readOnly = true)
+    public SpendingSeriesResponse series(SeriesGranularity granularity, LocalDate start, LocalDate end,
+                                         boolean byCategory) {
+        LocalDate today = LocalDate.now();
+        LocalDate last = granularity.bucketStart(end != null ? end : today);
+        LocalDate first = start != null
+                ? granularity.bucketStart(start)
+                : granularity.plus(last, 1L - granularity.getDefaultBuckets());
+        if (last.isBefore(first)) {
+            throw new IllegalArgumentException("Series end date must not be before start date");
+        }
+        List<LocalDate> buckets = new ArrayList<>();
+        for (LocalDate bucket = first; !bucket.isAfter(last); bucket = granularity.plus(bucket, 1)) {
+            if (buckets.size() == properties.getMaxBuckets()) {
+                throw new IllegalArgumentException("A series may contain at most " + properties.getMaxBuckets()
+                        + " buckets, use a coarser granularity or a shorter range");
+            }
+            buckets.add(bucket);
+        }
+        LocalDate rangeEnd = granularity.bucketEnd(last);
+
+        User user = currentUserService.getCurrentUser();
+        Map<YearMonth, Long> versions = reportDataVersionService.currentVersions(user,
+                YearMonth.from(first), YearMonth.from(rangeEnd));
+        Map<LocalDate, List<SpendingSeriesPoint>> series = new LinkedHashMap<>();
+        int firstMiss = buckets.size();
+        for (int i = 0; i < buckets.size(); i++) {
+            LocalDate bucket = buckets.get(i);
+            List<SpendingSeriesPoint> cached = isClosed(granularity, bucket, today)
+                    ? closedBuckets.getIfPresent(keyFor(user, granularity, byCategory, bucket, versions))
+                    : null;
+            if (cached == null) {
+                firstMiss = i;
+                break;
+            }
+            series.put(bucket, cached);
+        }
+
+        if (firstMiss < buckets.size()) {
+            Map<LocalDate, List<SpendingSeriesPoint>> loaded = load(user, granularity, byCategory,
+                    buckets.get(firstMiss), rangeEnd);
+            for (LocalDate bucket : buckets.subList(firstMiss, buckets.size())) {
+                List<SpendingSeriesPoint> points = loaded.getOrDefault(bucket, List.of());
+                if (isClosed(granularity, bucket, today)) {
+                    closedBuckets.put(keyFor(user, granularity, byCategory, bucket, versions), points);
+                }
+                series.put(bucket, points);
+            }
+        }
+
+        List<SpendingSeriesPoint> points = new ArrayList<>();
+        series.values().forEach(points::addAll);
+        return new SpendingSeriesResponse(granularity, first, rangeEnd, byCategory, points);
+    }
+
+    private Map<LocalDate, List<SpendingSeriesPoint>> load(User user, SeriesGranularity granularity,
+                                                           boolean byCategory, LocalDate start, LocalDate end) {
+        Map<LocalDate, Map<UUID, PointTotal>> totals = new HashMap<>();
+        for (SpendBucketTotal row : spendRollupService.bucketTotals(user, granularity, start, end)) {
+            UUID categoryId = byCategory ? row.getCategoryId() : null;
+            totals.computeIfAbsent(granularity.bucketStart(row.getBucketDate()), bucket -> new LinkedHashMap<>())
+                    .computeIfAbsent(categoryId, id -> new PointTotal(byCategory ? row.getCategoryName() : null))
+                    .add(row.getTotalAmount(), row.getExpenseCount());
+        }
+
+        Map<LocalDate, List<SpendingSeriesPoint>> points = new HashMap<>();
+        for (LocalDate bucket = start; !bucket.isAfter(end); bucket = granularity.plus(bucket, 1)) {
+            Map<UUID, PointTotal> bucketTotals = totals.getOrDefault(bucket, Map.of());
+            List<SpendingSeriesPoint> bucketPoints = new ArrayList<>(Math.max(1, bucketTotals.size()));
+            if (!byCategory && bucketTotals.isEmpty()) {
+                bucketPoints.add(new SpendingSeriesPoint(bucket, null, null, BigDecimal.ZERO, 0));
+            }
+            LocalDate bucketStart = bucket;
+            bucketTotals.forEach((categoryId, total) -> bucketPoints.add(new SpendingSeriesPoint(bucketStart,
+                    categoryId, total.categoryName, total.amount, total.count)));
+            if (byCategory) {
+                bucketPoints.sort(BY_CATEGORY_NAME);
+            }
+            points.put(bucket, List.copyOf(bucketPoints));
+        }
+        return points;
+    }
+
+    private static boolean isClosed(SeriesGranularity granularity, LocalDate bucket, LocalDate today) {
+        return granularity.bucketEnd(bucket).isBefore(today);
+    }
+
+    private static SeriesCacheKey keyFor(User user, SeriesGranularity granularity, boolean byCategory,
+                                         LocalDate bucket, Map<YearMonth, Long> versions) {
+        long version = 0;
+        YearMonth lastMonth = YearMonth.from(granularity.bucketEnd(bucket));
+        for (YearMonth month = YearMonth.from(bucket); !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            version += versions.getOrDefault(month, 0L);
+        }
+        return new SeriesCacheKey(user.getId(), granularity, byCategory, bucket, version);
+    }
+
+    private record SeriesCacheKey(UUID userId, SeriesGranularity granularity, boolean byCategory,
+                                  LocalDate bucketStart, long version) {
+    }
+
+    private static class PointTotal {
+        private final String categoryName;
+        private BigDecimal amount = BigDecimal.ZERO;
+        private long count;
+
+        PointTotal(String categoryName) {
+            this.categoryName = categoryName;
+        }
+
+        void add(BigDecimal amount, long count) {
+            this.amount = this.amount.add(amount);
+            this.count += count;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.paypulse.dto.SignUpRequest;
 import com.paypulse.entity.User;
 import com.paypulse.repository.UserRepository;
 import com.paypulse.security.JwtService;
+import com.paypulse.security.PayPulseUserDetailsService;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -21,15 +22,18 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final CurrentUserService currentUserService;
 
     public AuthService(AuthenticationManager authenticationManager,
                        UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
-                       JwtService jwtService) {
+                       JwtService jwtService,
+                       CurrentUserService currentUserService) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
+        this.currentUserService = currentUserService;
     }
 
     @Transactional
@@ -44,10 +48,13 @@ public class AuthService {
         user.setFullName(request.getFullName());
         user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
         userRepository.save(user);
+        currentUserService.evict(user.getEmail());
 
         String token = jwtService.generateToken(
                 new org.springframework.security.core.userdetails.User(user.getEmail(), user.getPasswordHash(), java.util.List.of()),
-                Map.of("name", user.getFullName())
+                Map.of("name", user.getFullName(),
+                        JwtService.USER_ID_CLAIM, user.getId().toString(),
+                        JwtService.ROLE_CLAIM, PayPulseUserDetailsService.DEFAULT_ROLE)
         );
 
         return new AuthResponse(token, user.getId(), user.getEmail(), user.getFullName());
@@ -63,7 +70,9 @@ public class AuthService {
 
         String token = jwtService.generateToken(
                 new org.springframework.security.core.userdetails.User(user.getEmail(), user.getPasswordHash(), java.util.List.of()),
-                Map.of("name", user.getFullName())
+                Map.of("name", user.getFullName(),
+                        JwtService.USER_ID_CLAIM, user.getId().toString(),
+                        JwtService.ROLE_CLAIM, PayPulseUserDetailsService.DEFAULT_ROLE)
         );
 
         return new AuthResponse(token, user.getId(), user.getEmail(), user.getFullName());
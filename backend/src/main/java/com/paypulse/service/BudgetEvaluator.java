@@ -0,0 +1,104 @@
+package com.paypulse.service;
+
+import com.paypulse.dto.SpendWindow;
+import com.paypulse.entity.Budget;
+import com.paypulse.entity.User;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class BudgetEvaluator {
+
+    private final SpendRollupService spendRollupService;
+
+    public BudgetEvaluator(SpendRollupService spendRollupService) {
+        this.spendRollupService = spendRollupService;
+    }
+
+    public Map<UUID, Evaluation> evaluate(User user, Collection<Budget> budgets, LocalDate today) {
+        Map<UUID, Evaluation> evaluations = new LinkedHashMap<>();
+        if (budgets.isEmpty()) {
+            return evaluations;
+        }
+
+        Map<Budget, Period> periods = new LinkedHashMap<>();
+        Map<Window, Integer> windowIndexes = new LinkedHashMap<>();
+        List<SpendWindow> windows = new ArrayList<>();
+        for (Budget budget : budgets) {
+            Period period = currentPeriod(budget, today);
+            periods.put(budget, period);
+            windowIndexes.computeIfAbsent(new Window(budget.getCategory().getId(), period), window -> {
+                windows.add(new SpendWindow(window.categoryId(), period.start(), period.end()));
+                return windows.size() - 1;
+            });
+        }
+
+        List<BigDecimal> spentByWindow = spendRollupService.windowTotals(user, windows);
+        periods.forEach((budget, period) -> {
+            BigDecimal spent = spentByWindow.get(windowIndexes.get(new Window(budget.getCategory().getId(), period)));
+            evaluations.put(budget.getId(), new Evaluation(period.start(), period.end(), spent));
+        });
+        return evaluations;
+    }
+
+    private static Period currentPeriod(Budget budget, LocalDate today) {
+        LocalDate start = budget.getStartDate();
+        LocalDate end = budget.getEndDate();
+        if (!budget.isRecurringMonthly() || !today.isAfter(end)) {
+            return new Period(start, end);
+        }
+        long months = ChronoUnit.MONTHS.between(YearMonth.from(start), YearMonth.from(today));
+        if (shiftMonths(start, months).isAfter(today)) {
+            months--;
+        }
+        return new Period(shiftMonths(start, months), shiftMonths(end, months));
+    }
+
+    private static LocalDate shiftMonths(LocalDate date, long months) {
+        LocalDate shifted = date.plusMonths(months);
+        if (date.equals(YearMonth.from(date).atEndOfMonth())) {
+            return YearMonth.from(shifted).atEndOfMonth();
+        }
+        return shifted;
+    }
+
+    private record Period(LocalDate start, LocalDate end) {
+    }
+
+    private record Window(UUID categoryId, Period period) {
+    }
+
+    public static class Evaluation {
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final BigDecimal spent;
+
+        public Evaluation(LocalDate startDate, LocalDate endDate, BigDecimal spent) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.spent = spent;
+        }
+
+        public LocalDate getStartDate() {
+            return startDate;
+        }
+
+        public LocalDate getEndDate() {
+            return endDate;
+        }
+
+        public BigDecimal getSpent() {
+            return spent;
+        }
+    }
+}
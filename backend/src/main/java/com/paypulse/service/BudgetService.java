@@ -14,7 +14,9 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -24,23 +26,30 @@ public class BudgetService {
     private final BudgetRepository budgetRepository;
     private final CurrentUserService currentUserService;
     private final CategoryService categoryService;
-    private final ExpenseService expenseService;
+    private final BudgetEvaluator budgetEvaluator;
+    private final ChangeFeedService changeFeedService;
 
     public BudgetService(BudgetRepository budgetRepository,
                          CurrentUserService currentUserService,
                          CategoryService categoryService,
-                         ExpenseService expenseService) {
+                         BudgetEvaluator budgetEvaluator,
+                         ChangeFeedService changeFeedService) {
         this.budgetRepository = budgetRepository;
         this.currentUserService = currentUserService;
         this.categoryService = categoryService;
-        this.expenseService = expenseService;
+        this.budgetEvaluator = budgetEvaluator;
+        this.changeFeedService = changeFeedService;
     }
 
+    @Transactional(readOnly = true)
     public List<BudgetResponse> listBudgets() {
         User user = currentUserService.getCurrentUser();
-        return budgetRepository.findAllByUserOrderByStartDateDesc(user).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtos(user, budgetRepository.findAllByUserOrderByStartDateDesc(user));
+    }
+
+    @Transactional(readOnly = true)
+    public List<BudgetResponse> listBudgets(User user, Collection<UUID> ids) {
+        return toDtos(user, budgetRepository.findAllByUserAndIdIn(user, ids));
     }
 
     @Transactional
@@ -59,7 +68,9 @@ public class BudgetService {
         budget.setStartDate(request.getStartDate());
         budget.setEndDate(request.getEndDate());
         budget.setRecurringMonthly(request.isRecurringMonthly());
-        return toDto(budgetRepository.save(budget));
+        Budget saved = budgetRepository.save(budget);
+        changeFeedService.recordUpsert(user, SyncEntityType.BUDGET, saved.getId());
+        return toDtos(user, List.of(saved)).get(0);
     }
 
     @Transactional
@@ -69,25 +80,29 @@ public class BudgetService {
                 .filter(b -> b.getUser().getId().equals(user.getId()))
                 .orElseThrow(() -> new EntityNotFoundException("Budget not found"));
         budgetRepository.delete(budget);
+        changeFeedService.recordDelete(user, SyncEntityType.BUDGET, id);
     }
 
-    private BudgetResponse toDto(Budget budget) {
+    private List<BudgetResponse> toDtos(User user, List<Budget> budgets) {
         LocalDate today = LocalDate.now();
-        LocalDate start = budget.getStartDate();
-        LocalDate end = budget.getEndDate();
+        Map<UUID, BudgetEvaluator.Evaluation> evaluations = budgetEvaluator.evaluate(user, budgets, today);
+        return budgets.stream()
+                .map(budget -> toDto(budget, evaluations.get(budget.getId()), today))
+                .collect(Collectors.toList());
+    }
+
+    private BudgetResponse toDto(Budget budget, BudgetEvaluator.Evaluation evaluation, LocalDate today) {
+        LocalDate start = evaluation.getStartDate();
+        LocalDate end = evaluation.getEndDate();
         if (today.isBefore(start)) {
             today = start;
         }
         if (today.isAfter(end)) {
             today = end;
         }
-        BigDecimal spent = expenseService.sumForCategoryAndRange(
-                budget.getCategory(),
-                budget.getStartDate(),
-                budget.getEndDate()
-        );
+        BigDecimal spent = evaluation.getSpent();
         BigDecimal remaining = budget.getTotalAmount().subtract(spent).max(BigDecimal.ZERO);
-        long daysLeft = ChronoUnit.DAYS.between(today, budget.getEndDate()) + 1;
+        long daysLeft = ChronoUnit.DAYS.between(today, end) + 1;
         if (daysLeft < 1) {
             daysLeft = 1;
         }
@@ -102,8 +117,8 @@ public class BudgetService {
                 budget.getId(),
                 budget.getName(),
                 budget.getTotalAmount(),
-                budget.getStartDate(),
-                budget.getEndDate(),
+                start,
+                end,
                 budget.isRecurringMonthly(),
                 budget.getCategory().getId(),
                 budget.getCategory().getName(),
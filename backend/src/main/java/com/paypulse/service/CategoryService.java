@@ -4,31 +4,45 @@ import com.paypulse.dto.CategoryDto;
 import com.paypulse.entity.Category;
 import com.paypulse.entity.User;
 import com.paypulse.repository.CategoryRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CurrentUserService currentUserService;
+    private final SpendRollupService spendRollupService;
+    private final ReportDataVersionService reportDataVersionService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ChangeFeedService changeFeedService;
 
     public CategoryService(CategoryRepository categoryRepository,
-                           CurrentUserService currentUserService) {
+                           CurrentUserService currentUserService,
+                           SpendRollupService spendRollupService,
+                           ReportDataVersionService reportDataVersionService,
+                           EntityManagerFactory entityManagerFactory,
+                           ChangeFeedService changeFeedService) {
         this.categoryRepository = categoryRepository;
         this.currentUserService = currentUserService;
+        this.spendRollupService = spendRollupService;
+        this.reportDataVersionService = reportDataVersionService;
+        this.entityManagerFactory = entityManagerFactory;
+        this.changeFeedService = changeFeedService;
     }
 
+    @Transactional(readOnly = true)
     public List<CategoryDto> listCategories() {
         User user = currentUserService.getCurrentUser();
-        return categoryRepository.findAllByUserOrderByNameAsc(user).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return categoryRepository.findResponsesByUser(user);
     }
 
     @Transactional
@@ -43,7 +57,10 @@ public class CategoryService {
         category.setColorHex(dto.getColorHex() != null ? dto.getColorHex() : "#4F46E5");
         category.setIconName(dto.getIconName() != null ? dto.getIconName() : "Receipt");
         category.setUser(user);
-        return toDto(categoryRepository.save(category));
+        Category saved = categoryRepository.save(category);
+        evictCaches(saved.getId());
+        changeFeedService.recordUpsert(user, SyncEntityType.CATEGORY, saved.getId());
+        return toDto(saved);
     }
 
     @Transactional
@@ -59,6 +76,10 @@ public class CategoryService {
         if (dto.getIconName() != null) {
             category.setIconName(dto.getIconName());
         }
+        reportDataVersionService.bumpAll(user);
+        evictCaches(id);
+        changeFeedService.recordUpsert(user, SyncEntityType.CATEGORY, id);
+        changeFeedService.recordCategoryBudgets(user, id);
         return toDto(categoryRepository.save(category));
     }
 
@@ -71,9 +92,13 @@ public class CategoryService {
         if (!category.getExpenses().isEmpty() || !category.getBudgets().isEmpty()) {
             throw new IllegalStateException("Cannot delete category with linked expenses or budgets");
         }
+        spendRollupService.clearCategory(category);
         categoryRepository.delete(category);
+        evictCaches(id);
+        changeFeedService.recordDelete(user, SyncEntityType.CATEGORY, id);
     }
 
+    @Transactional(readOnly = true)
     public Category getCategoryForCurrentUser(UUID id) {
         User user = currentUserService.getCurrentUser();
         return categoryRepository.findById(id)
@@ -81,13 +106,22 @@ public class CategoryService {
                 .orElseThrow(() -> new EntityNotFoundException("Category not found"));
     }
 
+    private void evictCaches(UUID id) {
+        Cache cache = entityManagerFactory.getCache();
+        Runnable evict = () -> cache.evict(Category.class, id);
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
+    }
+
     private CategoryDto toDto(Category category) {
-        CategoryDto dto = new CategoryDto();
-        dto.setId(category.getId());
-        dto.setName(category.getName());
-        dto.setColorHex(category.getColorHex());
-        dto.setIconName(category.getIconName());
-        return dto;
+        return new CategoryDto(category.getId(), category.getName(), category.getColorHex(), category.getIconName());
     }
 }
 
@@ -0,0 +1,149 @@
+package com.paypulse.service;
+
+import com.paypulse.entity.User;
+import com.paypulse.repository.BudgetRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+public class ChangeFeedService {
+
+    private static final String PENDING_CHANGES = ChangeFeedService.class.getName() + ".pendingChanges";
+    private static final String NEXT_VERSION = "update sync_versions set version = version + 1 where user_id = ?";
+    private static final String INSERT_VERSION = "insert into sync_versions (user_id, version) values (?, 0) " +
+            "on conflict do nothing";
+    private static final String CURRENT_VERSION = "select version from sync_versions where user_id = ?";
+    private static final String UPDATE_CHANGE = "update sync_changes set version = ?, deleted = ? " +
+            "where user_id = ? and entity_type = ? and entity_id = ?";
+    private static final String INSERT_CHANGE = "insert into sync_changes " +
+            "(user_id, entity_type, entity_id, version, deleted) values (?, ?, ?, ?, ?)";
+    private static final String CHANGES_BETWEEN = "select entity_type, entity_id, version, deleted from sync_changes " +
+            "where user_id = ? and version > ? and version <= ? order by version, entity_type, entity_id";
+
+    private final BudgetRepository budgetRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChangeFeedService(BudgetRepository budgetRepository, JdbcTemplate jdbcTemplate) {
+        this.budgetRepository = budgetRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public void recordUpsert(User user, SyncEntityType type, UUID id) {
+        pendingChanges(user).changes.put(new ChangeKey(type, id), false);
+    }
+
+    @Transactional
+    public void recordUpserts(User user, SyncEntityType type, Collection<UUID> ids) {
+        PendingChanges pending = pendingChanges(user);
+        ids.forEach(id -> pending.changes.put(new ChangeKey(type, id), false));
+    }
+
+    @Transactional
+    public void recordDelete(User user, SyncEntityType type, UUID id) {
+        pendingChanges(user).changes.put(new ChangeKey(type, id), true);
+    }
+
+    @Transactional
+    public void recordCategoryBudgets(User user, UUID categoryId) {
+        pendingChanges(user).budgetCategories.add(categoryId);
+    }
+
+    public long currentVersion(User user) {
+        List<Long> versions = jdbcTemplate.queryForList(CURRENT_VERSION, Long.class, user.getId());
+        return versions.isEmpty() ? 0 : versions.get(0);
+    }
+
+    public List<Change> changesBetween(User user, long since, long version) {
+        return jdbcTemplate.query(CHANGES_BETWEEN, (rs, rowNum) -> new Change(
+                SyncEntityType.valueOf(rs.getString("entity_type")),
+                rs.getObject("entity_id", UUID.class),
+                rs.getLong("version"),
+                rs.getBoolean("deleted")), user.getId(), since, version);
+    }
+
+    private PendingChanges pendingChanges(User user) {
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(PENDING_CHANGES);
+        if (pending != null) {
+            return pending;
+        }
+        PendingChanges changes = new PendingChanges(user);
+        TransactionSynchronizationManager.bindResource(PENDING_CHANGES, changes);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                write(changes);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_CHANGES);
+            }
+        });
+        return changes;
+    }
+
+    private void write(PendingChanges pending) {
+        if (!pending.budgetCategories.isEmpty()) {
+            budgetRepository.findIdsByUserAndCategoryIdIn(pending.user, pending.budgetCategories)
+                    .forEach(id -> pending.changes.putIfAbsent(new ChangeKey(SyncEntityType.BUDGET, id), false));
+        }
+        if (pending.changes.isEmpty()) {
+            return;
+        }
+        long version = nextVersion(pending.user);
+        List<ChangeKey> keys = new ArrayList<>(pending.changes.keySet());
+        List<Object[]> updates = new ArrayList<>(keys.size());
+        for (ChangeKey key : keys) {
+            updates.add(new Object[]{version, pending.changes.get(key), pending.user.getId(), key.type().name(), key.id()});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_CHANGE, updates);
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                ChangeKey key = keys.get(i);
+                inserts.add(new Object[]{pending.user.getId(), key.type().name(), key.id(), version, pending.changes.get(key)});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CHANGE, inserts);
+        }
+    }
+
+    private long nextVersion(User user) {
+        if (jdbcTemplate.update(NEXT_VERSION, user.getId()) == 0) {
+            jdbcTemplate.update(INSERT_VERSION, user.getId());
+            jdbcTemplate.update(NEXT_VERSION, user.getId());
+        }
+        return currentVersion(user);
+    }
+
+    public record Change(SyncEntityType type, UUID id, long version, boolean deleted) {
+    }
+
+    private record ChangeKey(SyncEntityType type, UUID id) {
+    }
+
+    private static class PendingChanges {
+        private final User user;
+        private final Map<ChangeKey, Boolean> changes = new LinkedHashMap<>();
+        private final Set<UUID> budgetCategories = new LinkedHashSet<>();
+
+        PendingChanges(User user) {
+            this.user = user;
+        }
+    }
+}
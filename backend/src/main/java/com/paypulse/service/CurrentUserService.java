@@ -1,18 +1,41 @@
 package com.paypulse.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.paypulse.config.UserCacheProperties;
 import com.paypulse.entity.User;
 import com.paypulse.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Locale;
+import java.util.Optional;
 
 @Service
 public class CurrentUserService {
 
+    private static final String REQUEST_USER_ATTRIBUTE = CurrentUserService.class.getName() + ".user";
+
     private final UserRepository userRepository;
+    private final Cache<String, User> userCache;
 
-    public CurrentUserService(UserRepository userRepository) {
+    public CurrentUserService(UserRepository userRepository,
+                              UserCacheProperties properties,
+                              MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userCache, "users");
     }
 
     public User getCurrentUser() {
@@ -21,8 +44,43 @@ public class CurrentUserService {
             throw new IllegalStateException("No authenticated user in context");
         }
         String email = authentication.getName();
-        return userRepository.findByEmailIgnoreCase(email)
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(REQUEST_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof User memo
+                && memo.getEmail().equalsIgnoreCase(email)) {
+            return memo;
+        }
+        User user = findByEmail(email)
                 .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    public Optional<User> findByEmail(String email) {
+        return Optional.ofNullable(userCache.get(normalize(email),
+                key -> userRepository.findByEmailIgnoreCase(key).orElse(null)));
     }
-}
 
+    public void evict(String email) {
+        String key = normalize(email);
+        userCache.invalidate(key);
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.removeAttribute(REQUEST_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userCache.invalidate(key);
+                }
+            });
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,78 +1,188 @@
 package com.paypulse.service;
 
+import com.paypulse.config.DashboardProperties;
+import com.paypulse.config.QueryCounter;
+import com.paypulse.dto.CategorySpendSummary;
 import com.paypulse.dto.DashboardSummaryDto;
 import com.paypulse.dto.ExpenseResponse;
 import com.paypulse.dto.SavingsGoalResponse;
-import com.paypulse.entity.Category;
 import com.paypulse.entity.User;
-import com.paypulse.repository.CategoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 public class DashboardService {
 
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+
+    private static final String SPENDING_SECTION = "spending";
+    private static final String GOALS_SECTION = "savingsGoals";
+    private static final String RECENT_EXPENSES_SECTION = "recentExpenses";
+    private static final int SECTIONS_PER_REQUEST = 3;
+
     private final SavingsGoalService savingsGoalService;
     private final ExpenseService expenseService;
-    private final CategoryRepository categoryRepository;
     private final CurrentUserService currentUserService;
+    private final DashboardProperties properties;
+    private final TransactionTemplate sectionTransaction;
+    private final ThreadPoolExecutor dashboardExecutor;
+    private final ExecutorService sectionExecutor;
+    private final MeterRegistry meterRegistry;
+    private final QueryCounter queryCounter;
 
     public DashboardService(SavingsGoalService savingsGoalService,
                             ExpenseService expenseService,
-                            CategoryRepository categoryRepository,
-                            CurrentUserService currentUserService) {
+                            CurrentUserService currentUserService,
+                            DashboardProperties properties,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            QueryCounter queryCounter,
+                            Environment environment) {
         this.savingsGoalService = savingsGoalService;
         this.expenseService = expenseService;
-        this.categoryRepository = categoryRepository;
         this.currentUserService = currentUserService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.queryCounter = queryCounter;
+        this.sectionTransaction = new TransactionTemplate(transactionManager);
+        this.sectionTransaction.setReadOnly(true);
+        this.sectionTransaction.setTimeout((int) Math.max(1, properties.getSectionTimeout().toSeconds()));
+        // Every section holds a pooled connection, so leave half of the pool to request threads; the queue only
+        // has to absorb the sections of requests Tomcat can run at once, and anything beyond that runs inline.
+        int connections = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        int requestThreads = environment.getProperty("server.tomcat.threads.max", Integer.class, 200);
+        int workers = properties.getWorkers() != null ? properties.getWorkers() : Math.max(1, connections / 2);
+        int queueCapacity = properties.getQueueCapacity() != null ? properties.getQueueCapacity()
+                : SECTIONS_PER_REQUEST * requestThreads;
+        this.dashboardExecutor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Threading.VIRTUAL.isActive(environment)
+                        ? new VirtualThreadTaskExecutor("dashboard-").getVirtualThreadFactory()
+                        : new CustomizableThreadFactory("dashboard-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.dashboardExecutor.allowCoreThreadTimeOut(true);
+        this.sectionExecutor = new DelegatingSecurityContextExecutorService(dashboardExecutor);
+        new ExecutorServiceMetrics(dashboardExecutor, "dashboard", Tags.empty()).bindTo(meterRegistry);
     }
 
     public DashboardSummaryDto getSummary() {
-        BigDecimal totalSavings = savingsGoalService.totalSavings();
+        User user = currentUserService.getCurrentUser();
         LocalDate today = LocalDate.now();
         YearMonth yearMonth = YearMonth.from(today);
         LocalDate monthStart = yearMonth.atDay(1);
         LocalDate monthEnd = yearMonth.atEndOfMonth();
 
-        BigDecimal totalSpentThisMonth = expenseService.sumForRange(monthStart, monthEnd);
-        BigDecimal totalSpentToday = expenseService.sumForDate(today);
+        long deadline = System.nanoTime() + properties.getSectionTimeout().toNanos();
+        Future<List<CategorySpendSummary>> spendingSection =
+                submit(() -> expenseService.summarizeByCategory(user, monthStart, monthEnd, today));
+        Future<List<SavingsGoalResponse>> goalsSection = submit(() -> savingsGoalService.listGoals(user));
+        Future<List<ExpenseResponse>> recentSection = submit(() -> expenseService.listRecentExpenses(user));
 
-        List<SavingsGoalResponse> goals = savingsGoalService.listGoals();
-        List<SavingsGoalResponse> goalsPreview = goals.stream()
-                .limit(2)
-                .collect(Collectors.toList());
-
-        User user = currentUserService.getCurrentUser();
+        List<String> degradedSections = new ArrayList<>();
+        List<CategorySpendSummary> summaries = await(SPENDING_SECTION, spendingSection, deadline, degradedSections);
+        List<SavingsGoalResponse> goals = await(GOALS_SECTION, goalsSection, deadline, degradedSections);
+        List<ExpenseResponse> recentExpenses = await(RECENT_EXPENSES_SECTION, recentSection, deadline, degradedSections);
 
+        BigDecimal totalSpentThisMonth = null;
+        BigDecimal totalSpentToday = null;
         Map<String, BigDecimal> spendingByCategory = new LinkedHashMap<>();
-        List<Category> categories = categoryRepository.findAllByUserOrderByNameAsc(user);
-        for (Category category : categories) {
-            BigDecimal spent = expenseService.sumForCategoryAndRange(category, monthStart, monthEnd);
-            if (spent.compareTo(BigDecimal.ZERO) > 0) {
-                spendingByCategory.put(category.getName(), spent);
+        if (summaries != null) {
+            totalSpentThisMonth = BigDecimal.ZERO;
+            totalSpentToday = BigDecimal.ZERO;
+            for (CategorySpendSummary summary : summaries) {
+                totalSpentThisMonth = totalSpentThisMonth.add(summary.getTotalSpent());
+                totalSpentToday = totalSpentToday.add(summary.getSpentOnDay());
+                if (summary.getTotalSpent().compareTo(BigDecimal.ZERO) > 0) {
+                    spendingByCategory.put(summary.getCategoryName(), summary.getTotalSpent());
+                }
             }
         }
 
-        List<ExpenseResponse> recentExpenses = expenseService.listExpenses().stream()
-                .limit(5)
+        BigDecimal totalSavings = goals == null ? null : goals.stream()
+                .map(SavingsGoalResponse::getSavedAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        List<SavingsGoalResponse> goalsPreview = goals == null ? List.of() : goals.stream()
+                .limit(2)
                 .collect(Collectors.toList());
 
         return new DashboardSummaryDto(
                 totalSavings,
                 totalSpentThisMonth,
                 totalSpentToday,
-                goals.size(),
+                goals == null ? 0 : goals.size(),
                 goalsPreview,
                 spendingByCategory,
-                recentExpenses
+                recentExpenses == null ? List.of() : recentExpenses,
+                degradedSections.isEmpty() ? null : degradedSections
         );
     }
-}
 
+    @PreDestroy
+    public void shutdown() {
+        dashboardExecutor.shutdownNow();
+    }
+
+    private <T> Future<T> submit(Supplier<T> section) {
+        return sectionExecutor.submit(queryCounter.propagate(() -> sectionTransaction.execute(status -> section.get())));
+    }
+
+    private <T> T await(String section, Future<T> future, long deadline, List<String> degradedSections) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            degrade(section, "interrupted", degradedSections);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Dashboard section {} timed out after {}", section, properties.getSectionTimeout());
+            degrade(section, "timeout", degradedSections);
+        } catch (ExecutionException e) {
+            log.warn("Dashboard section {} failed", section, e.getCause());
+            degrade(section, "error", degradedSections);
+        }
+        return null;
+    }
+
+    private void degrade(String section, String reason, List<String> degradedSections) {
+        degradedSections.add(section);
+        Counter.builder("paypulse.dashboard.sections.degraded")
+                .tag("section", section)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,243 @@
+package com.paypulse.service;
+
+import com.paypulse.config.DashboardStreamProperties;
+import com.paypulse.dto.DashboardDeltaDto;
+import com.paypulse.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class DashboardStreamService {
+
+    private final CurrentUserService currentUserService;
+    private final DashboardStreamProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor streamExecutor;
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    public DashboardStreamService(CurrentUserService currentUserService,
+                                  DashboardStreamProperties properties,
+                                  MeterRegistry meterRegistry,
+                                  Environment environment) {
+        this.currentUserService = currentUserService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.streamExecutor = new ThreadPoolExecutor(
+                properties.getWorkers(),
+                properties.getWorkers(),
+                60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                Threading.VIRTUAL.isActive(environment)
+                        ? new VirtualThreadTaskExecutor("dashboard-stream-").getVirtualThreadFactory()
+                        : new CustomizableThreadFactory("dashboard-stream-"));
+        this.streamExecutor.allowCoreThreadTimeOut(true);
+        new ExecutorServiceMetrics(streamExecutor, "dashboardStream", Tags.empty()).bindTo(meterRegistry);
+        Gauge.builder("paypulse.dashboard.stream.subscribers", subscribers,
+                        open -> open.values().stream().mapToInt(Set::size).sum())
+                .description("Open dashboard event streams")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe() {
+        User user = currentUserService.getCurrentUser();
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(user.getId(), emitter, properties.getBufferSize());
+        subscribers.compute(user.getId(), (id, userSubscribers) -> {
+            Set<Subscriber> open = userSubscribers != null ? userSubscribers : ConcurrentHashMap.newKeySet();
+            if (open.size() >= properties.getPerUserLimit()) {
+                throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many open dashboard streams");
+            }
+            open.add(subscriber);
+            return open;
+        });
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        emitter.onTimeout(() -> {
+            remove(subscriber);
+            emitter.complete();
+        });
+        subscriber.heartbeat.set(true);
+        drain(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onExpenseChanged(ExpenseChangedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.getUserId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        if (event.isRefetch() || withdrawsFromGoal(event)) {
+            String reason = event.isRefetch() ? "bulk-change" : "goal-withdrawal";
+            targets.forEach(subscriber -> {
+                requestRefetch(subscriber, reason);
+                drain(subscriber);
+            });
+            return;
+        }
+        DashboardDeltaDto delta = toDelta(event, LocalDate.now());
+        if (delta == null) {
+            return;
+        }
+        targets.forEach(subscriber -> {
+            if (!subscriber.refetch.get() && !subscriber.deltas.offer(delta)) {
+                subscriber.deltas.clear();
+                requestRefetch(subscriber, "overflow");
+            }
+            drain(subscriber);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${paypulse.dashboard-stream.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            subscriber.heartbeat.set(true);
+            drain(subscriber);
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamExecutor.shutdownNow();
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    private void requestRefetch(Subscriber subscriber, String reason) {
+        if (subscriber.refetch.compareAndSet(false, true)) {
+            Counter.builder("paypulse.dashboard.stream.refetch")
+                    .tag("reason", reason)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            streamExecutor.execute(() -> send(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        try {
+            if (subscriber.refetch.getAndSet(false)) {
+                subscriber.emitter.send(SseEmitter.event().name("refetch").data("refetch"));
+            }
+            DashboardDeltaDto delta;
+            while ((delta = subscriber.deltas.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event().name("delta").data(delta, MediaType.APPLICATION_JSON));
+            }
+            if (subscriber.heartbeat.getAndSet(false)) {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        }
+        subscriber.draining.set(false);
+        if (subscriber.refetch.get() || !subscriber.deltas.isEmpty() || subscriber.heartbeat.get()) {
+            drain(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    // Saved amounts are clamped at zero when a goal delta is applied, so only a net withdrawal can leave the goal
+    // somewhere other than "previous + delta"; those send a refetch instead of a delta the client would mis-apply.
+    private static boolean withdrawsFromGoal(ExpenseChangedEvent event) {
+        Map<UUID, BigDecimal> byGoal = new HashMap<>();
+        for (ExpenseChangedEvent.SpendChange change : event.getChanges()) {
+            if (change.savingsGoalId() != null) {
+                byGoal.merge(change.savingsGoalId(), change.amount(), BigDecimal::add);
+            }
+        }
+        return byGoal.values().stream().anyMatch(amount -> amount.signum() < 0);
+    }
+
+    private static DashboardDeltaDto toDelta(ExpenseChangedEvent event, LocalDate today) {
+        YearMonth month = YearMonth.from(today);
+        BigDecimal monthTotal = BigDecimal.ZERO;
+        BigDecimal todayTotal = BigDecimal.ZERO;
+        BigDecimal savings = BigDecimal.ZERO;
+        Map<String, BigDecimal> byCategory = new LinkedHashMap<>();
+        Map<UUID, BigDecimal> byGoal = new LinkedHashMap<>();
+        for (ExpenseChangedEvent.SpendChange change : event.getChanges()) {
+            if (YearMonth.from(change.expenseDate()).equals(month)) {
+                monthTotal = monthTotal.add(change.amount());
+                byCategory.merge(change.categoryName(), change.amount(), BigDecimal::add);
+                if (change.expenseDate().equals(today)) {
+                    todayTotal = todayTotal.add(change.amount());
+                }
+            }
+            if (change.savingsGoalId() != null) {
+                savings = savings.add(change.amount());
+                byGoal.merge(change.savingsGoalId(), change.amount(), BigDecimal::add);
+            }
+        }
+        byCategory.values().removeIf(amount -> amount.signum() == 0);
+        byGoal.values().removeIf(amount -> amount.signum() == 0);
+        if (byCategory.isEmpty() && byGoal.isEmpty() && monthTotal.signum() == 0) {
+            return null;
+        }
+        return new DashboardDeltaDto(monthTotal, todayTotal, savings, byCategory, byGoal);
+    }
+
+    private static class Subscriber {
+        private final UUID userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<DashboardDeltaDto> deltas;
+        private final AtomicBoolean refetch = new AtomicBoolean();
+        private final AtomicBoolean heartbeat = new AtomicBoolean();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(UUID userId, SseEmitter emitter, int bufferSize) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.deltas = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
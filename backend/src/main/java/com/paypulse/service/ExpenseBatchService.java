@@ -0,0 +1,292 @@
+package com.paypulse.service;
+
+import com.paypulse.config.ExpenseBatchProperties;
+import com.paypulse.dto.DailySpendTotal;
+import com.paypulse.dto.ExpenseBatchAction;
+import com.paypulse.dto.ExpenseBatchItemResult;
+import com.paypulse.dto.ExpenseBatchOperation;
+import com.paypulse.dto.ExpenseBatchResponse;
+import com.paypulse.dto.ExpenseResponse;
+import com.paypulse.entity.Category;
+import com.paypulse.entity.Expense;
+import com.paypulse.entity.SavingsGoal;
+import com.paypulse.entity.User;
+import com.paypulse.repository.CategoryRepository;
+import com.paypulse.repository.ExpenseRepository;
+import com.paypulse.repository.SavingsGoalRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class ExpenseBatchService {
+
+    private static final int MERCHANT_LENGTH = 255;
+    private static final int NOTE_LENGTH = 512;
+
+    private final ExpenseRepository expenseRepository;
+    private final CategoryRepository categoryRepository;
+    private final SavingsGoalRepository savingsGoalRepository;
+    private final CurrentUserService currentUserService;
+    private final SavingsGoalService savingsGoalService;
+    private final SpendRollupService spendRollupService;
+    private final ReportDataVersionService reportDataVersionService;
+    private final ChangeFeedService changeFeedService;
+    private final ExpenseBatchProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ExpenseBatchService(ExpenseRepository expenseRepository,
+                               CategoryRepository categoryRepository,
+                               SavingsGoalRepository savingsGoalRepository,
+                               CurrentUserService currentUserService,
+                               SavingsGoalService savingsGoalService,
+                               SpendRollupService spendRollupService,
+                               ReportDataVersionService reportDataVersionService,
+                               ChangeFeedService changeFeedService,
+                               ExpenseBatchProperties properties,
+                               ApplicationEventPublisher eventPublisher) {
+        this.expenseRepository = expenseRepository;
+        this.categoryRepository = categoryRepository;
+        this.savingsGoalRepository = savingsGoalRepository;
+        this.currentUserService = currentUserService;
+        this.savingsGoalService = savingsGoalService;
+        this.spendRollupService = spendRollupService;
+        this.reportDataVersionService = reportDataVersionService;
+        this.changeFeedService = changeFeedService;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public ExpenseBatchResponse apply(List<ExpenseBatchOperation> operations) {
+        if (operations.size() > properties.getMaxOperations()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A batch may contain at most " + properties.getMaxOperations() + " operations");
+        }
+        User user = currentUserService.getCurrentUser();
+
+        Set<UUID> categoryIds = new HashSet<>();
+        Set<UUID> goalIds = new HashSet<>();
+        Set<UUID> expenseIds = new HashSet<>();
+        for (ExpenseBatchOperation operation : operations) {
+            if (operation.getCategoryId() != null) {
+                categoryIds.add(operation.getCategoryId());
+            }
+            if (operation.getSavingsGoalId() != null) {
+                goalIds.add(operation.getSavingsGoalId());
+            }
+            if (operation.getAction() != ExpenseBatchAction.CREATE && operation.getId() != null) {
+                expenseIds.add(operation.getId());
+            }
+        }
+        Batch batch = new Batch(user,
+                byId(categoryIds, ids -> categoryRepository.findAllByUserAndIdIn(user, ids), Category::getId),
+                byId(goalIds, ids -> savingsGoalRepository.findAllByUserAndIdIn(user, ids), SavingsGoal::getId),
+                byId(expenseIds, ids -> expenseRepository.findAllByUserAndIdIn(user, ids), Expense::getId));
+
+        List<ExpenseBatchItemResult> results = new ArrayList<>(operations.size());
+        int applied = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            ExpenseBatchOperation operation = operations.get(i);
+            try {
+                results.add(apply(batch, i, operation));
+                applied++;
+            } catch (IllegalArgumentException | EntityNotFoundException e) {
+                results.add(new ExpenseBatchItemResult(i, operation.getClientId(), operation.getAction(), false,
+                        operation.getId(), null, e.getMessage()));
+            }
+        }
+
+        spendRollupService.applyAll(user, batch.rollupDeltas());
+        batch.months.forEach(month -> reportDataVersionService.bump(user, month.atDay(1)));
+        if (!batch.spendChanges.isEmpty()) {
+            eventPublisher.publishEvent(ExpenseChangedEvent.of(user.getId(), batch.touched, batch.spendChanges));
+        }
+        return new ExpenseBatchResponse(applied, operations.size() - applied, results);
+    }
+
+    private ExpenseBatchItemResult apply(Batch batch, int index, ExpenseBatchOperation operation) {
+        if (operation.getAction() == ExpenseBatchAction.DELETE) {
+            Expense expense = batch.existingExpense(operation.getId());
+            batch.withdraw(expense);
+            batch.expenses.remove(expense.getId());
+            expenseRepository.delete(expense);
+            changeFeedService.recordDelete(batch.user, SyncEntityType.EXPENSE, expense.getId());
+            return new ExpenseBatchItemResult(index, operation.getClientId(), operation.getAction(), true,
+                    expense.getId(), null, null);
+        }
+
+        validate(operation);
+        Category category = batch.categories.get(operation.getCategoryId());
+        if (category == null) {
+            throw new EntityNotFoundException("Category not found");
+        }
+        SavingsGoal goal = null;
+        if (operation.getSavingsGoalId() != null) {
+            goal = batch.goals.get(operation.getSavingsGoalId());
+            if (goal == null) {
+                throw new EntityNotFoundException("Goal not found");
+            }
+        }
+
+        Expense expense;
+        if (operation.getAction() == ExpenseBatchAction.UPDATE) {
+            expense = batch.existingExpense(operation.getId());
+            batch.withdraw(expense);
+        } else {
+            expense = new Expense();
+            expense.setUser(batch.user);
+        }
+        expense.setCategory(category);
+        expense.setAmount(operation.getAmount());
+        expense.setExpenseDate(operation.getExpenseDate());
+        expense.setMerchant(operation.getMerchant());
+        expense.setNote(operation.getNote());
+        expense.setSavingsGoal(goal);
+        Expense saved = expenseRepository.save(expense);
+        batch.deposit(saved, category, goal);
+        changeFeedService.recordUpsert(batch.user, SyncEntityType.EXPENSE, saved.getId());
+
+        return new ExpenseBatchItemResult(index, operation.getClientId(), operation.getAction(), true,
+                saved.getId(), toDto(saved, category, goal), null);
+    }
+
+    private static void validate(ExpenseBatchOperation operation) {
+        if (operation.getAction() == ExpenseBatchAction.UPDATE && operation.getId() == null) {
+            throw new IllegalArgumentException("id is required for UPDATE");
+        }
+        if (operation.getAmount() == null || operation.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("amount must be greater than 0");
+        }
+        if (operation.getExpenseDate() == null) {
+            throw new IllegalArgumentException("expenseDate is required");
+        }
+        if (operation.getCategoryId() == null) {
+            throw new IllegalArgumentException("categoryId is required");
+        }
+        if (operation.getMerchant() != null && operation.getMerchant().length() > MERCHANT_LENGTH) {
+            throw new IllegalArgumentException("merchant must be at most " + MERCHANT_LENGTH + " characters");
+        }
+        if (operation.getNote() != null && operation.getNote().length() > NOTE_LENGTH) {
+            throw new IllegalArgumentException("note must be at most " + NOTE_LENGTH + " characters");
+        }
+    }
+
+    private static <T> Map<UUID, T> byId(Collection<UUID> ids,
+                                         Function<Collection<UUID>, List<T>> loader,
+                                         Function<T, UUID> idOf) {
+        if (ids.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        return loader.apply(ids).stream()
+                .collect(Collectors.toMap(idOf, Function.identity(), (first, second) -> first, LinkedHashMap::new));
+    }
+
+    private static ExpenseResponse toDto(Expense expense, Category category, SavingsGoal goal) {
+        return new ExpenseResponse(
+                expense.getId(),
+                expense.getAmount(),
+                expense.getExpenseDate(),
+                expense.getMerchant(),
+                expense.getNote(),
+                category.getId(),
+                category.getName(),
+                category.getColorHex(),
+                goal != null ? goal.getId() : null
+        );
+    }
+
+    private class Batch {
+        private final User user;
+        private final Map<UUID, Category> categories;
+        private final Map<UUID, SavingsGoal> goals;
+        private final Map<UUID, Expense> expenses;
+        private final Map<RollupKey, RollupDelta> rollup = new LinkedHashMap<>();
+        private final Set<YearMonth> months = new LinkedHashSet<>();
+        private final List<ExpenseChangedEvent.SpendChange> spendChanges = new ArrayList<>();
+        private final Set<UUID> touched = new LinkedHashSet<>();
+
+        Batch(User user, Map<UUID, Category> categories, Map<UUID, SavingsGoal> goals, Map<UUID, Expense> expenses) {
+            this.user = user;
+            this.categories = categories;
+            this.goals = goals;
+            this.expenses = expenses;
+        }
+
+        Expense existingExpense(UUID id) {
+            if (id == null) {
+                throw new IllegalArgumentException("id is required");
+            }
+            Expense expense = expenses.get(id);
+            if (expense == null) {
+                throw new EntityNotFoundException("Expense not found");
+            }
+            return expense;
+        }
+
+        void withdraw(Expense expense) {
+            track(expense.getCategory().getId(), expense.getExpenseDate(), expense.getAmount().negate(), -1);
+            UUID goalId = expense.getSavingsGoal() != null ? expense.getSavingsGoal().getId() : null;
+            if (goalId != null) {
+                savingsGoalService.adjustSavedAmount(user, goalId, expense.getAmount().negate());
+            }
+            touched.add(expense.getId());
+            spendChanges.add(new ExpenseChangedEvent.SpendChange(expense.getCategory().getId(),
+                    expense.getCategory().getName(), expense.getExpenseDate(), expense.getAmount().negate(), goalId));
+        }
+
+        void deposit(Expense expense, Category category, SavingsGoal goal) {
+            track(category.getId(), expense.getExpenseDate(), expense.getAmount(), 1);
+            if (goal != null) {
+                savingsGoalService.adjustSavedAmount(user, goal.getId(), expense.getAmount());
+            }
+            touched.add(expense.getId());
+            spendChanges.add(new ExpenseChangedEvent.SpendChange(category.getId(), category.getName(),
+                    expense.getExpenseDate(), expense.getAmount(), goal != null ? goal.getId() : null));
+        }
+
+        List<DailySpendTotal> rollupDeltas() {
+            List<DailySpendTotal> deltas = new ArrayList<>();
+            rollup.forEach((key, delta) -> {
+                if (delta.count != 0 || delta.amount.compareTo(BigDecimal.ZERO) != 0) {
+                    deltas.add(new DailySpendTotal(key.categoryId(), key.spendDate(), delta.amount, delta.count));
+                }
+            });
+            return deltas;
+        }
+
+        private void track(UUID categoryId, LocalDate spendDate, BigDecimal amount, long count) {
+            changeFeedService.recordCategoryBudgets(user, categoryId);
+            RollupDelta delta = rollup.computeIfAbsent(new RollupKey(categoryId, spendDate), key -> new RollupDelta());
+            delta.amount = delta.amount.add(amount);
+            delta.count += count;
+            months.add(YearMonth.from(spendDate));
+        }
+    }
+
+    private record RollupKey(UUID categoryId, LocalDate spendDate) {
+    }
+
+    private static class RollupDelta {
+        private BigDecimal amount = BigDecimal.ZERO;
+        private long count;
+    }
+}
@@ -0,0 +1,50 @@
+package com.paypulse.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public class ExpenseChangedEvent {
+    private final UUID userId;
+    private final Set<UUID> expenseIds;
+    private final List<SpendChange> changes;
+    private final boolean refetch;
+
+    private ExpenseChangedEvent(UUID userId, Set<UUID> expenseIds, List<SpendChange> changes, boolean refetch) {
+        this.userId = userId;
+        this.expenseIds = expenseIds;
+        this.changes = changes;
+        this.refetch = refetch;
+    }
+
+    public static ExpenseChangedEvent of(UUID userId, Collection<UUID> expenseIds, List<SpendChange> changes) {
+        return new ExpenseChangedEvent(userId, Set.copyOf(expenseIds), List.copyOf(changes), false);
+    }
+
+    public static ExpenseChangedEvent refetch(UUID userId, Collection<UUID> expenseIds) {
+        return new ExpenseChangedEvent(userId, Set.copyOf(expenseIds), List.of(), true);
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public Set<UUID> getExpenseIds() {
+        return expenseIds;
+    }
+
+    public List<SpendChange> getChanges() {
+        return changes;
+    }
+
+    public boolean isRefetch() {
+        return refetch;
+    }
+
+    public record SpendChange(UUID categoryId, String categoryName, LocalDate expenseDate, BigDecimal amount,
+                              UUID savingsGoalId) {
+    }
+}
@@ -0,0 +1,203 @@
+package com.paypulse.service;
+
+import com.paypulse.config.ImportProperties;
+import com.paypulse.dto.DailySpendTotal;
+import com.paypulse.dto.ImportResult;
+import com.paypulse.entity.Category;
+import com.paypulse.entity.User;
+import com.paypulse.importer.ImportFormat;
+import com.paypulse.importer.ImportRow;
+import com.paypulse.importer.ImportRowReader;
+import com.paypulse.repository.CategoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+public class ExpenseImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpenseImportService.class);
+
+    private static final String INSERT_EXPENSE = "insert into expenses " +
+            "(id, amount, expense_date, merchant, note, category_id, user_id) values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final CurrentUserService currentUserService;
+    private final CategoryRepository categoryRepository;
+    private final SpendRollupService spendRollupService;
+    private final ReportDataVersionService reportDataVersionService;
+    private final ChangeFeedService changeFeedService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ImportProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ExpenseImportService(CurrentUserService currentUserService,
+                                CategoryRepository categoryRepository,
+                                SpendRollupService spendRollupService,
+                                ReportDataVersionService reportDataVersionService,
+                                ChangeFeedService changeFeedService,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ImportProperties properties,
+                                ApplicationEventPublisher eventPublisher) {
+        this.currentUserService = currentUserService;
+        this.categoryRepository = categoryRepository;
+        this.spendRollupService = spendRollupService;
+        this.reportDataVersionService = reportDataVersionService;
+        this.changeFeedService = changeFeedService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public ImportResult importExpenses(MultipartFile file, ImportFormat format, String defaultCategory) {
+        User user = currentUserService.getCurrentUser();
+        ImportFormat importFormat = format != null ? format : ImportFormat.fromFileName(file.getOriginalFilename());
+        String fallbackCategory = defaultCategory != null && !defaultCategory.isBlank()
+                ? defaultCategory.trim()
+                : properties.getDefaultCategory();
+
+        Map<String, Category> categories = new HashMap<>();
+        for (Category category : categoryRepository.findAllByUserOrderByNameAsc(user)) {
+            categories.put(normalize(category.getName()), category);
+        }
+
+        ImportResult result = new ImportResult(properties.getMaxReportedErrors());
+        List<PendingExpense> batch = new ArrayList<>(properties.getBatchSize());
+        try (InputStream in = file.getInputStream(); ImportRowReader reader = importFormat.open(in)) {
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                result.rowRead();
+                if (row.getError() != null) {
+                    result.rowFailed(row.getLineNumber(), row.getError());
+                    continue;
+                }
+                if (row.isSkipped()) {
+                    result.rowSkipped();
+                    continue;
+                }
+                batch.add(new PendingExpense(row, row.getCategory() != null ? row.getCategory() : fallbackCategory));
+                if (batch.size() >= properties.getBatchSize()) {
+                    flush(user, categories, batch, result);
+                }
+            }
+            flush(user, categories, batch, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read import file", e);
+        }
+        return result;
+    }
+
+    private void flush(User user, Map<String, Category> categories, List<PendingExpense> batch, ImportResult result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            save(user, categories, batch);
+            result.rowsImported(batch.size());
+        } catch (DataAccessException e) {
+            log.warn("Import batch of {} rows failed, retrying row by row", batch.size(), e);
+            for (PendingExpense pending : batch) {
+                try {
+                    save(user, categories, List.of(pending));
+                    result.rowsImported(1);
+                } catch (DataAccessException rowError) {
+                    log.debug("Import row {} failed", pending.row().getLineNumber(), rowError);
+                    result.rowFailed(pending.row().getLineNumber(), "Could not save row");
+                }
+            }
+        }
+        batch.clear();
+    }
+
+    private void save(User user, Map<String, Category> categories, List<PendingExpense> pendingExpenses) {
+        List<String> created = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Object[]> rows = new ArrayList<>(pendingExpenses.size());
+                List<UUID> ids = new ArrayList<>(pendingExpenses.size());
+                Map<UUID, Map<LocalDate, DayTotal>> totals = new LinkedHashMap<>();
+                Set<YearMonth> months = new HashSet<>();
+                for (PendingExpense pending : pendingExpenses) {
+                    ImportRow row = pending.row();
+                    Category category = resolveCategory(user, categories, pending.categoryName(), created);
+                    UUID expenseId = UUID.randomUUID();
+                    ids.add(expenseId);
+                    rows.add(new Object[]{expenseId, row.getAmount(), Date.valueOf(row.getExpenseDate()),
+                            row.getMerchant(), row.getNote(), category.getId(), user.getId()});
+                    totals.computeIfAbsent(category.getId(), id -> new HashMap<>())
+                            .computeIfAbsent(row.getExpenseDate(), date -> new DayTotal())
+                            .add(row.getAmount());
+                    months.add(YearMonth.from(row.getExpenseDate()));
+                }
+                jdbcTemplate.batchUpdate(INSERT_EXPENSE, rows);
+                List<DailySpendTotal> dailyTotals = new ArrayList<>();
+                totals.forEach((categoryId, days) -> days.forEach((date, total) ->
+                        dailyTotals.add(new DailySpendTotal(categoryId, date, total.amount, total.count))));
+                spendRollupService.applyAll(user, dailyTotals);
+                months.forEach(month -> reportDataVersionService.bump(user, month.atDay(1)));
+                changeFeedService.recordUpserts(user, SyncEntityType.EXPENSE, ids);
+                totals.keySet().forEach(categoryId -> changeFeedService.recordCategoryBudgets(user, categoryId));
+                eventPublisher.publishEvent(ExpenseChangedEvent.refetch(user.getId(), ids));
+            });
+        } catch (RuntimeException e) {
+            created.forEach(categories::remove);
+            throw e;
+        }
+    }
+
+    private Category resolveCategory(User user, Map<String, Category> categories, String name, List<String> created) {
+        return categories.computeIfAbsent(normalize(name), key -> {
+            Category category = new Category();
+            category.setName(name);
+            category.setColorHex("#4F46E5");
+            category.setIconName("Receipt");
+            category.setUser(user);
+            Category saved = categoryRepository.saveAndFlush(category);
+            changeFeedService.recordUpsert(user, SyncEntityType.CATEGORY, saved.getId());
+            created.add(key);
+            return saved;
+        });
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record PendingExpense(ImportRow row, String categoryName) {
+    }
+
+    private static class DayTotal {
+        private BigDecimal amount = BigDecimal.ZERO;
+        private long count;
+
+        void add(BigDecimal value) {
+            amount = amount.add(value);
+            count++;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.paypulse.service;
+
+import com.paypulse.dto.ExpenseSearchDocument;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+class ExpenseSearchIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+    private final Map<UUID, Integer> categoryOrdinals = new HashMap<>();
+    private final List<UUID> categories = new ArrayList<>();
+    private BitSet live = new BitSet();
+    private UUID[] ids = new UUID[INITIAL_CAPACITY];
+    private int[] days = new int[INITIAL_CAPACITY];
+    private int[] categoryOf = new int[INITIAL_CAPACITY];
+    private int size;
+
+    void addAll(Stream<ExpenseSearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            documents.forEach(this::insert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void apply(Collection<UUID> changedIds, List<ExpenseSearchDocument> current) {
+        lock.writeLock().lock();
+        try {
+            changedIds.forEach(this::delete);
+            current.forEach(this::insert);
+            if (size - ordinals.size() > Math.max(MIN_TOMBSTONES_TO_COMPACT, ordinals.size())) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int weight() {
+        return size;
+    }
+
+    List<ExpenseCursor> search(Query query, int limit, int maxExpansions) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = null;
+            for (String token : query.tokens()) {
+                BitSet tokenMatches = new BitSet(size);
+                expand(token, query.fuzzy(), maxExpansions, postings -> postings.addTo(tokenMatches));
+                if (matches == null) {
+                    matches = tokenMatches;
+                } else {
+                    matches.and(tokenMatches);
+                }
+                if (matches.isEmpty()) {
+                    return List.of();
+                }
+            }
+            if (matches == null) {
+                return List.of();
+            }
+            matches.and(live);
+            return top(matches, query, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT);
+        Set<String> tokens = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    private void insert(ExpenseSearchDocument document) {
+        delete(document.getId());
+        int ordinal = size++;
+        if (ordinal == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            days = Arrays.copyOf(days, capacity);
+            categoryOf = Arrays.copyOf(categoryOf, capacity);
+        }
+        ids[ordinal] = document.getId();
+        days[ordinal] = (int) document.getExpenseDate().toEpochDay();
+        categoryOf[ordinal] = categoryOrdinals.computeIfAbsent(document.getCategoryId(), id -> {
+            categories.add(id);
+            return categories.size() - 1;
+        });
+        live.set(ordinal);
+        ordinals.put(document.getId(), ordinal);
+
+        Set<String> documentTerms = new LinkedHashSet<>(tokenize(document.getMerchant()));
+        documentTerms.addAll(tokenize(document.getNote()));
+        documentTerms.forEach(term -> terms.computeIfAbsent(term, key -> new Postings()).add(ordinal));
+    }
+
+    private void delete(UUID id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal != null) {
+            live.clear(ordinal);
+        }
+    }
+
+    private void compact() {
+        int[] remap = new int[size];
+        int next = 0;
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            if (live.get(ordinal)) {
+                remap[ordinal] = next;
+                ids[next] = ids[ordinal];
+                days[next] = days[ordinal];
+                categoryOf[next] = categoryOf[ordinal];
+                next++;
+            } else {
+                remap[ordinal] = -1;
+            }
+        }
+        Arrays.fill(ids, next, size, null);
+        size = next;
+        live = new BitSet(size);
+        live.set(0, size);
+        ordinals.clear();
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            ordinals.put(ids[ordinal], ordinal);
+        }
+        Iterator<Postings> postings = terms.values().iterator();
+        while (postings.hasNext()) {
+            if (postings.next().remap(remap) == 0) {
+                postings.remove();
+            }
+        }
+    }
+
+    private void expand(String token, boolean fuzzy, int maxExpansions, Consumer<Postings> consumer) {
+        int expansions = 0;
+        Set<String> seen = fuzzy ? new LinkedHashSet<>() : Collections.emptySet();
+        for (Map.Entry<String, Postings> entry : withPrefix(token).entrySet()) {
+            if (expansions++ >= maxExpansions) {
+                return;
+            }
+            consumer.accept(entry.getValue());
+            if (fuzzy) {
+                seen.add(entry.getKey());
+            }
+        }
+        int maxEdits = maxEdits(token);
+        if (!fuzzy || maxEdits == 0) {
+            return;
+        }
+        for (Map.Entry<String, Postings> entry : withPrefix(token.substring(0, 1)).entrySet()) {
+            String term = entry.getKey();
+            if (Math.abs(term.length() - token.length()) > maxEdits || seen.contains(term)
+                    || editDistance(token, term, maxEdits) > maxEdits) {
+                continue;
+            }
+            if (expansions++ >= maxExpansions) {
+                return;
+            }
+            consumer.accept(entry.getValue());
+        }
+    }
+
+    private NavigableMap<String, Postings> withPrefix(String prefix) {
+        return terms.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+    }
+
+    private List<ExpenseCursor> top(BitSet matches, Query query, int limit) {
+        int startDay = query.start() != null ? (int) query.start().toEpochDay() : Integer.MIN_VALUE;
+        int endDay = query.end() != null ? (int) query.end().toEpochDay() : Integer.MAX_VALUE;
+        Integer category = query.categoryId() != null ? categoryOrdinals.get(query.categoryId()) : null;
+        if (query.categoryId() != null && category == null) {
+            return List.of();
+        }
+        int afterDay = query.after() != null ? (int) query.after().expenseDate().toEpochDay() : Integer.MAX_VALUE;
+        UUID afterId = query.after() != null ? query.after().id() : null;
+
+        Comparator<Integer> oldestFirst = Comparator.<Integer>comparingInt(ordinal -> days[ordinal])
+                .thenComparing(ordinal -> ids[ordinal], ExpenseSearchIndex::compareUnsigned);
+        PriorityQueue<Integer> newest = new PriorityQueue<>(limit + 1, oldestFirst);
+        for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+            int day = days[ordinal];
+            if (day < startDay || day > endDay || (category != null && categoryOf[ordinal] != category)) {
+                continue;
+            }
+            if (afterId != null
+                    && (day > afterDay || (day == afterDay && compareUnsigned(ids[ordinal], afterId) >= 0))) {
+                continue;
+            }
+            newest.add(ordinal);
+            if (newest.size() > limit) {
+                newest.poll();
+            }
+        }
+        List<ExpenseCursor> results = new ArrayList<>(newest.size());
+        while (!newest.isEmpty()) {
+            int ordinal = newest.poll();
+            results.add(new ExpenseCursor(LocalDate.ofEpochDay(days[ordinal]), ids[ordinal]));
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
+    private static int maxEdits(String token) {
+        if (token.length() < 3) {
+            return 0;
+        }
+        return token.length() < 6 ? 1 : 2;
+    }
+
+    private static int editDistance(String left, String right, int limit) {
+        int[] previous = new int[right.length() + 1];
+        int[] current = new int[right.length() + 1];
+        for (int j = 0; j <= right.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= left.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= right.length(); j++) {
+                int cost = left.charAt(i - 1) == right.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > limit) {
+                return rowMin;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[right.length()];
+    }
+
+    private static int compareUnsigned(UUID left, UUID right) {
+        int high = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+
+    record Query(List<String> tokens, boolean fuzzy, LocalDate start, LocalDate end, UUID categoryId,
+                 ExpenseCursor after) {
+    }
+
+    private static class Postings {
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        void addTo(BitSet target) {
+            for (int i = 0; i < size; i++) {
+                target.set(ordinals[i]);
+            }
+        }
+
+        int remap(int[] remap) {
+            int next = 0;
+            for (int i = 0; i < size; i++) {
+                int ordinal = remap[ordinals[i]];
+                if (ordinal >= 0) {
+                    ordinals[next++] = ordinal;
+                }
+            }
+            size = next;
+            return size;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.paypulse.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.paypulse.config.SearchProperties;
+import com.paypulse.dto.ExpensePageResponse;
+import com.paypulse.dto.ExpenseResponse;
+import com.paypulse.dto.ExpenseSearchDocument;
+import com.paypulse.entity.User;
+import com.paypulse.repository.ExpenseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class ExpenseSearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final ExpenseRepository expenseRepository;
+    private final CurrentUserService currentUserService;
+    private final SearchProperties properties;
+    private final Cache<UUID, ExpenseSearchIndex> indexes;
+    private final Timer buildTimer;
+
+    public ExpenseSearchService(ExpenseRepository expenseRepository,
+                                CurrentUserService currentUserService,
+                                SearchProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.expenseRepository = expenseRepository;
+        this.currentUserService = currentUserService;
+        this.properties = properties;
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxIndexedExpenses())
+                .weigher((UUID userId, ExpenseSearchIndex index) -> Math.max(1, index.weight()))
+                .expireAfterAccess(properties.getIdleTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "expenseSearch");
+        this.buildTimer = Timer.builder("paypulse.search.index.build")
+                .description("Time to build a user's expense search index")
+                .register(meterRegistry);
+    }
+
+    @Transactional(readOnly = true)
+    public ExpensePageResponse search(String q, boolean fuzzy, LocalDate start, LocalDate end, UUID categoryId,
+                                      String cursor, Integer size) {
+        List<String> tokens = ExpenseSearchIndex.tokenize(q);
+        if (tokens.isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain at least one letter or digit");
+        }
+        if (start != null && end != null && end.isBefore(start)) {
+            throw new IllegalArgumentException("Search end date must not be before start date");
+        }
+        User user = currentUserService.getCurrentUser();
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        ExpenseCursor after = cursor == null || cursor.isBlank() ? null : ExpenseCursor.decode(cursor);
+
+        ExpenseSearchIndex index = indexes.get(user.getId(), userId -> build(user));
+        ExpenseSearchIndex.Query query = new ExpenseSearchIndex.Query(tokens, fuzzy, start, end, categoryId, after);
+        List<ExpenseCursor> hits = index.search(query, pageSize + 1, properties.getMaxExpansions());
+        List<ExpenseCursor> page = hits.size() > pageSize ? hits.subList(0, pageSize) : hits;
+        if (page.isEmpty()) {
+            return new ExpensePageResponse(List.of(), null);
+        }
+
+        Map<UUID, ExpenseResponse> rows = expenseRepository.findResponsesByUserAndIdIn(user,
+                        page.stream().map(ExpenseCursor::id).toList()).stream()
+                .collect(Collectors.toMap(ExpenseResponse::getId, Function.identity()));
+        List<ExpenseResponse> items = page.stream()
+                .map(hit -> rows.get(hit.id()))
+                .filter(Objects::nonNull)
+                .toList();
+        return new ExpensePageResponse(items, hits.size() > pageSize ? page.get(page.size() - 1).encode() : null);
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onExpenseChanged(ExpenseChangedEvent event) {
+        if (event.getExpenseIds().isEmpty()) {
+            return;
+        }
+        indexes.asMap().computeIfPresent(event.getUserId(), (userId, index) -> {
+            index.apply(event.getExpenseIds(),
+                    expenseRepository.findSearchDocumentsByUserIdAndIdIn(userId, event.getExpenseIds()));
+            return index;
+        });
+    }
+
+    private ExpenseSearchIndex build(User user) {
+        return buildTimer.record(() -> {
+            ExpenseSearchIndex index = new ExpenseSearchIndex();
+            try (Stream<ExpenseSearchDocument> documents = expenseRepository.streamSearchDocumentsByUser(user)) {
+                index.addAll(documents);
+            }
+            return index;
+        });
+    }
+}
@@ -1,5 +1,7 @@
 package com.paypulse.service;
 
+import com.paypulse.dto.CategorySpendSummary;
+import com.paypulse.dto.ExpensePageResponse;
 import com.paypulse.dto.ExpenseRequest;
 import com.paypulse.dto.ExpenseResponse;
 import com.paypulse.entity.Category;
@@ -8,38 +10,88 @@ import com.paypulse.entity.SavingsGoal;
 import com.paypulse.entity.User;
 import com.paypulse.repository.ExpenseRepository;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class ExpenseService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int RECENT_EXPENSES = 5;
+
     private final ExpenseRepository expenseRepository;
     private final CurrentUserService currentUserService;
     private final CategoryService categoryService;
     private final SavingsGoalService savingsGoalService;
+    private final SpendRollupService spendRollupService;
+    private final ReportDataVersionService reportDataVersionService;
+    private final ChangeFeedService changeFeedService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ExpenseService(ExpenseRepository expenseRepository,
                           CurrentUserService currentUserService,
                           CategoryService categoryService,
-                          SavingsGoalService savingsGoalService) {
+                          SavingsGoalService savingsGoalService,
+                          SpendRollupService spendRollupService,
+                          ReportDataVersionService reportDataVersionService,
+                          ChangeFeedService changeFeedService,
+                          ApplicationEventPublisher eventPublisher) {
         this.expenseRepository = expenseRepository;
         this.currentUserService = currentUserService;
         this.categoryService = categoryService;
         this.savingsGoalService = savingsGoalService;
+        this.spendRollupService = spendRollupService;
+        this.reportDataVersionService = reportDataVersionService;
+        this.changeFeedService = changeFeedService;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Transactional(readOnly = true)
     public List<ExpenseResponse> listExpenses() {
         User user = currentUserService.getCurrentUser();
-        return expenseRepository.findAllByUserOrderByExpenseDateDesc(user).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return expenseRepository.findResponsesByUser(user);
+    }
+
+    @Transactional(readOnly = true)
+    public ExpensePageResponse listExpensePage(String cursor, Integer size) {
+        User user = currentUserService.getCurrentUser();
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        ExpenseCursor position = cursor == null || cursor.isBlank() ? null : ExpenseCursor.decode(cursor);
+        List<ExpenseResponse> rows = position == null
+                ? expenseRepository.findFirstPageByUser(user, limit)
+                : expenseRepository.findPageByUserAfter(user, position.expenseDate(), position.id(), limit);
+        if (rows.size() <= pageSize) {
+            return new ExpensePageResponse(rows, null);
+        }
+        List<ExpenseResponse> items = rows.subList(0, pageSize);
+        ExpenseResponse last = items.get(items.size() - 1);
+        return new ExpensePageResponse(items, new ExpenseCursor(last.getExpenseDate(), last.getId()).encode());
+    }
+
+    @Transactional(readOnly = true)
+    public void streamExpenses(User user, Consumer<ExpenseResponse> consumer) {
+        try (Stream<ExpenseResponse> rows = expenseRepository.streamAllByUser(user)) {
+            rows.forEach(consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void streamExpensesForRange(User user, LocalDate start, LocalDate end, Consumer<ExpenseResponse> consumer) {
+        try (Stream<ExpenseResponse> rows = expenseRepository.streamAllByUserAndExpenseDateBetween(user, start, end)) {
+            rows.forEach(consumer);
+        }
     }
 
     @Transactional
@@ -53,6 +105,8 @@ public class ExpenseService {
                 : new Expense();
 
         BigDecimal previousAmount = expense.getAmount() == null ? BigDecimal.ZERO : expense.getAmount();
+        Category previousCategory = expense.getCategory();
+        LocalDate previousDate = expense.getExpenseDate();
         SavingsGoal previousGoal = expense.getSavingsGoal();
         SavingsGoal newGoal = null;
         if (request.getSavingsGoalId() != null) {
@@ -69,8 +123,21 @@ public class ExpenseService {
 
         Expense savedExpense = expenseRepository.save(expense);
 
+        if (previousCategory != null) {
+            spendRollupService.replace(user, previousCategory, previousDate, previousAmount,
+                    category, request.getExpenseDate(), request.getAmount());
+        } else {
+            spendRollupService.record(user, category, request.getExpenseDate(), request.getAmount());
+        }
+        reportDataVersionService.bump(user, previousDate, request.getExpenseDate());
+        changeFeedService.recordUpsert(user, SyncEntityType.EXPENSE, savedExpense.getId());
+        changeFeedService.recordCategoryBudgets(user, category.getId());
+        if (previousCategory != null && !previousCategory.getId().equals(category.getId())) {
+            changeFeedService.recordCategoryBudgets(user, previousCategory.getId());
+        }
+
         if (previousGoal != null && (newGoal == null || !previousGoal.getId().equals(newGoal.getId()))) {
-            savingsGoalService.adjustSavedAmount(previousGoal.getId(), previousAmount.negate());
+            savingsGoalService.adjustSavedAmount(user, previousGoal.getId(), previousAmount.negate());
         }
         if (newGoal != null) {
             BigDecimal delta = request.getAmount();
@@ -78,10 +145,19 @@ public class ExpenseService {
                 delta = request.getAmount().subtract(previousAmount);
             }
             if (delta.compareTo(BigDecimal.ZERO) != 0) {
-                savingsGoalService.adjustSavedAmount(newGoal.getId(), delta);
+                savingsGoalService.adjustSavedAmount(user, newGoal.getId(), delta);
             }
         }
 
+        List<ExpenseChangedEvent.SpendChange> changes = new ArrayList<>(2);
+        if (previousCategory != null) {
+            changes.add(new ExpenseChangedEvent.SpendChange(previousCategory.getId(), previousCategory.getName(),
+                    previousDate, previousAmount.negate(), previousGoal != null ? previousGoal.getId() : null));
+        }
+        changes.add(new ExpenseChangedEvent.SpendChange(category.getId(), category.getName(),
+                request.getExpenseDate(), request.getAmount(), newGoal != null ? newGoal.getId() : null));
+        eventPublisher.publishEvent(ExpenseChangedEvent.of(user.getId(), List.of(savedExpense.getId()), changes));
+
         return toDto(savedExpense);
     }
 
@@ -94,32 +170,55 @@ public class ExpenseService {
         SavingsGoal savingsGoal = expense.getSavingsGoal();
         BigDecimal amount = expense.getAmount();
         expenseRepository.delete(expense);
+        spendRollupService.remove(user, expense.getCategory(), expense.getExpenseDate(), amount);
+        reportDataVersionService.bump(user, expense.getExpenseDate());
+        changeFeedService.recordDelete(user, SyncEntityType.EXPENSE, id);
+        changeFeedService.recordCategoryBudgets(user, expense.getCategory().getId());
         if (savingsGoal != null && amount != null) {
-            savingsGoalService.adjustSavedAmount(savingsGoal.getId(), amount.negate());
+            savingsGoalService.adjustSavedAmount(user, savingsGoal.getId(), amount.negate());
         }
+        ExpenseChangedEvent.SpendChange change = new ExpenseChangedEvent.SpendChange(expense.getCategory().getId(),
+                expense.getCategory().getName(), expense.getExpenseDate(), amount.negate(),
+                savingsGoal != null ? savingsGoal.getId() : null);
+        eventPublisher.publishEvent(ExpenseChangedEvent.of(user.getId(), List.of(id), List.of(change)));
     }
 
+    @Transactional(readOnly = true)
     public BigDecimal sumForRange(LocalDate start, LocalDate end) {
-        User user = currentUserService.getCurrentUser();
-        return expenseRepository.sumByUserAndDateRange(user, start, end);
+        return sumForRange(currentUserService.getCurrentUser(), start, end);
     }
 
+    @Transactional(readOnly = true)
+    public BigDecimal sumForRange(User user, LocalDate start, LocalDate end) {
+        return spendRollupService.sumForRange(user, start, end);
+    }
+
+    @Transactional(readOnly = true)
     public BigDecimal sumForDate(LocalDate date) {
         User user = currentUserService.getCurrentUser();
-        return expenseRepository.sumByUserAndDate(user, date);
+        return spendRollupService.sumForDate(user, date);
     }
 
+    @Transactional(readOnly = true)
     public BigDecimal sumForCategoryAndRange(Category category, LocalDate start, LocalDate end) {
         User user = currentUserService.getCurrentUser();
-        return expenseRepository.sumByUserAndCategoryAndDateRange(user, category, start, end);
+        return spendRollupService.sumForCategoryAndRange(user, category, start, end);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CategorySpendSummary> summarizeByCategory(User user, LocalDate start, LocalDate end, LocalDate day) {
+        return spendRollupService.summarizeByCategory(user, start, end, day);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ExpenseResponse> listRecentExpenses(User user) {
+        return expenseRepository.findFirstPageByUser(user, PageRequest.of(0, RECENT_EXPENSES));
     }
 
+    @Transactional(readOnly = true)
     public List<ExpenseResponse> listExpensesForRange(LocalDate start, LocalDate end) {
         User user = currentUserService.getCurrentUser();
-        return expenseRepository.findAllByUserAndExpenseDateBetweenOrderByExpenseDateDesc(user, start, end)
-                .stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return expenseRepository.findResponsesByUserAndExpenseDateBetween(user, start, end);
     }
 
     private ExpenseResponse toDto(Expense expense) {
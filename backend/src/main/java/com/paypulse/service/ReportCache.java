@@ -0,0 +1,309 @@
+package com.paypulse.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.paypulse.config.ReportCacheProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+@Component
+public class ReportCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportCache.class);
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final ReportCacheProperties properties;
+    private final Cache<String, byte[]> memoryTier;
+    private final LinkedHashMap<String, DiskEntry> diskTier = new LinkedHashMap<>(16, 0.75f, true);
+    private long diskBytes;
+    private final Path directory;
+
+    public ReportCache(ReportCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.memoryTier = Caffeine.newBuilder()
+                .maximumWeight(properties.getMemoryMaxSize().toBytes())
+                .weigher((String key, byte[] content) -> content.length)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memoryTier, "reports");
+        Gauge.builder("paypulse.report.cache.disk.bytes", this, cache -> cache.diskBytes())
+                .description("Bytes of cached reports spooled to disk")
+                .register(meterRegistry);
+        // Each instance spools into a directory of its own, so files it did not write never escape the disk bound
+        // and instances sharing the configured directory never delete each other's files.
+        this.directory = properties.getDirectory().resolve(UUID.randomUUID().toString());
+    }
+
+    public Optional<Resource> get(ReportCacheKey key) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        byte[] content = memoryTier.getIfPresent(key.toString());
+        if (content != null) {
+            return Optional.of(new ByteArrayResource(content));
+        }
+        DiskEntry entry = diskEntry(key.toString());
+        if (entry == null || !entry.acquire()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(promote(key, entry));
+        } finally {
+            entry.release();
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public Resource store(ReportCacheKey key, ReportWriter writer) {
+        if (!properties.isEnabled()) {
+            throw new IllegalStateException("Report cache is disabled");
+        }
+        // Every store writes a file of its own, so a reader streaming an earlier copy of the same key is never
+        // overwritten; the earlier copy is deleted once its last reader closes it.
+        Path file = fileFor(key);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), key.getPeriodPrefix(), ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    write(writer, out);
+                }
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            DiskEntry entry = new DiskEntry(file, Files.size(file));
+            try {
+                pruneStaleVersions(key);
+                putDiskEntry(key.toString(), entry);
+                return promote(key, entry);
+            } finally {
+                entry.release();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to cache report " + key, e);
+        }
+    }
+
+    private Resource promote(ReportCacheKey key, DiskEntry entry) {
+        if (entry.size <= properties.getMemoryMaxEntrySize().toBytes()) {
+            try {
+                byte[] content = Files.readAllBytes(entry.file);
+                memoryTier.put(key.toString(), content);
+                return new ByteArrayResource(content);
+            } catch (IOException e) {
+                log.warn("Could not load cached report {} into memory", key, e);
+            }
+        }
+        return new PinnedFileResource(entry);
+    }
+
+    private void pruneStaleVersions(ReportCacheKey key) {
+        String prefix = key.getUserId() + "/" + key.getPeriodPrefix();
+        removeDiskEntries(cached -> cached.startsWith(prefix) && !cached.equals(key.toString()));
+        memoryTier.asMap().keySet().removeIf(cached -> cached.startsWith(prefix) && !cached.equals(key.toString()));
+    }
+
+    private synchronized DiskEntry diskEntry(String key) {
+        return diskTier.get(key);
+    }
+
+    private synchronized long diskBytes() {
+        return diskBytes;
+    }
+
+    // Least recently used files are retired first until the spool fits its bound again. A retired file is only
+    // deleted once nobody is reading it any more.
+    private synchronized void putDiskEntry(String key, DiskEntry entry) {
+        DiskEntry previous = diskTier.put(key, entry);
+        if (previous != null) {
+            diskBytes -= previous.size;
+            previous.retire();
+        }
+        diskBytes += entry.size;
+        Iterator<DiskEntry> eldest = diskTier.values().iterator();
+        while (diskBytes > properties.getDiskMaxSize().toBytes() && eldest.hasNext()) {
+            DiskEntry evicted = eldest.next();
+            eldest.remove();
+            diskBytes -= evicted.size;
+            evicted.retire();
+        }
+    }
+
+    private synchronized void removeDiskEntries(Predicate<String> matches) {
+        Iterator<Map.Entry<String, DiskEntry>> entries = diskTier.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, DiskEntry> entry = entries.next();
+            if (matches.test(entry.getKey())) {
+                entries.remove();
+                diskBytes -= entry.getValue().size;
+                entry.getValue().retire();
+            }
+        }
+    }
+
+    private Path fileFor(ReportCacheKey key) {
+        return directory
+                .resolve(key.getUserId().toString())
+                .resolve(key.getFileName() + "." + UUID.randomUUID());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        removeDiskEntries(cached -> true);
+        try {
+            FileSystemUtils.deleteRecursively(directory);
+        } catch (IOException e) {
+            log.warn("Could not delete report cache directory {}", directory, e);
+        }
+    }
+
+    private static void write(ReportWriter writer, OutputStream out) {
+        try {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write report", e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface ReportWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    private static final class DiskEntry {
+        private final Path file;
+        private final long size;
+        private int readers = 1;
+        private boolean retired;
+        private boolean deleted;
+
+        DiskEntry(Path file, long size) {
+            this.file = file;
+            this.size = size;
+        }
+
+        synchronized boolean acquire() {
+            if (deleted) {
+                return false;
+            }
+            readers++;
+            return true;
+        }
+
+        synchronized void release() {
+            readers--;
+            deleteIfUnused();
+        }
+
+        synchronized void retire() {
+            retired = true;
+            deleteIfUnused();
+        }
+
+        private void deleteIfUnused() {
+            if (retired && readers == 0 && !deleted) {
+                deleted = true;
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warn("Could not delete cached report {}", file, e);
+                }
+            }
+        }
+    }
+
+    private static final class PinnedFileResource extends FileSystemResource {
+        private final DiskEntry entry;
+        private final Pin pin;
+
+        PinnedFileResource(DiskEntry entry) {
+            super(entry.file);
+            if (!entry.acquire()) {
+                throw new IllegalStateException("Cached report was already deleted: " + entry.file);
+            }
+            this.entry = entry;
+            this.pin = new Pin(entry);
+            CLEANER.register(this, pin);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            if (!entry.acquire()) {
+                throw new NoSuchFileException(entry.file.toString());
+            }
+            InputStream in;
+            try {
+                in = super.getInputStream();
+            } catch (IOException | RuntimeException e) {
+                entry.release();
+                throw e;
+            }
+            pin.run();
+            Pin streamPin = new Pin(entry);
+            return new FilterInputStream(in) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        streamPin.run();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            return Channels.newChannel(getInputStream());
+        }
+    }
+
+    private static final class Pin implements Runnable {
+        private final DiskEntry entry;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Pin(DiskEntry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public void run() {
+            if (released.compareAndSet(false, true)) {
+                entry.release();
+            }
+        }
+    }
+}
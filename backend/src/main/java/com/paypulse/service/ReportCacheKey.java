@@ -0,0 +1,49 @@
+package com.paypulse.service;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+public class ReportCacheKey {
+    private final UUID userId;
+    private final ReportFormat format;
+    private final YearMonth period;
+    private final long version;
+    private final String profileHash;
+
+    public ReportCacheKey(UUID userId, ReportFormat format, YearMonth period, long version, String profileHash) {
+        this.userId = userId;
+        this.format = format;
+        this.period = period;
+        this.version = version;
+        this.profileHash = profileHash;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public ReportFormat getFormat() {
+        return format;
+    }
+
+    public YearMonth getPeriod() {
+        return period;
+    }
+
+    public String getPeriodPrefix() {
+        return format.getExtension() + "-" + period + "-";
+    }
+
+    public String getFileName() {
+        return getPeriodPrefix() + "v" + version + "-" + profileHash + "." + format.getExtension();
+    }
+
+    public String getETag() {
+        return "\"" + getPeriodPrefix() + "v" + version + "-" + profileHash + "\"";
+    }
+
+    @Override
+    public String toString() {
+        return userId + "/" + getFileName();
+    }
+}
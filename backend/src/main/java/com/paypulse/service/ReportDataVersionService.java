@@ -0,0 +1,59 @@
+package com.paypulse.service;
+
+import com.paypulse.entity.User;
+import com.paypulse.repository.ReportDataVersionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+public class ReportDataVersionService {
+
+    private final ReportDataVersionRepository versionRepository;
+
+    public ReportDataVersionService(ReportDataVersionRepository versionRepository) {
+        this.versionRepository = versionRepository;
+    }
+
+    @Transactional
+    public void bump(User user, LocalDate date) {
+        YearMonth period = YearMonth.from(date);
+        if (versionRepository.increment(user, period.getYear(), period.getMonthValue()) == 0) {
+            versionRepository.insertIfAbsent(UUID.randomUUID(), user.getId(), period.getYear(), period.getMonthValue());
+            versionRepository.increment(user, period.getYear(), period.getMonthValue());
+        }
+    }
+
+    @Transactional
+    public void bump(User user, LocalDate previousDate, LocalDate date) {
+        if (previousDate != null && !YearMonth.from(previousDate).equals(YearMonth.from(date))) {
+            bump(user, previousDate);
+        }
+        bump(user, date);
+    }
+
+    @Transactional
+    public void bumpAll(User user) {
+        versionRepository.incrementAllByUser(user);
+    }
+
+    public long currentVersion(User user, YearMonth period) {
+        return versionRepository.findVersion(user, period.getYear(), period.getMonthValue()).orElse(0L);
+    }
+
+    public Map<YearMonth, Long> currentVersions(User user, YearMonth from, YearMonth to) {
+        Map<YearMonth, Long> versions = new HashMap<>();
+        versionRepository.findAllInPeriods(user, periodIndex(from), periodIndex(to)).forEach(version ->
+                versions.put(YearMonth.of(version.getPeriodYear(), version.getPeriodMonth()), version.getVersion()));
+        return versions;
+    }
+
+    private static int periodIndex(YearMonth period) {
+        return period.getYear() * 12 + period.getMonthValue();
+    }
+}
@@ -0,0 +1,16 @@
+package com.paypulse.service;
+
+public enum ReportFormat {
+    PDF("pdf"),
+    EXCEL("xlsx");
+
+    private final String extension;
+
+    ReportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
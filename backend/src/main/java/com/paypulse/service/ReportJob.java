@@ -0,0 +1,103 @@
+package com.paypulse.service;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ReportJob {
+    private final UUID id = UUID.randomUUID();
+    private final UUID userId;
+    private final ReportFormat format;
+    private final LocalDate start;
+    private final LocalDate end;
+    private final Path file;
+    private final Instant createdAt = Instant.now();
+    private final AtomicReference<ReportJobStatus> status = new AtomicReference<>(ReportJobStatus.QUEUED);
+    private final AtomicBoolean released = new AtomicBoolean();
+    private volatile Instant finishedAt;
+    private volatile String error;
+    private volatile Future<?> future;
+
+    public ReportJob(UUID userId, ReportFormat format, LocalDate start, LocalDate end, Path spoolDirectory) {
+        this.userId = userId;
+        this.format = format;
+        this.start = start;
+        this.end = end;
+        this.file = spoolDirectory.resolve(id + "." + format.getExtension());
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public ReportFormat getFormat() {
+        return format;
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public LocalDate getEnd() {
+        return end;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public ReportJobStatus getStatus() {
+        return status.get();
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isCancelled() {
+        return status.get() == ReportJobStatus.CANCELLED;
+    }
+
+    boolean transition(ReportJobStatus expected, ReportJobStatus next) {
+        if (!status.compareAndSet(expected, next)) {
+            return false;
+        }
+        if (next.isFinished()) {
+            finishedAt = Instant.now();
+        }
+        return true;
+    }
+
+    void fail(String message) {
+        error = message;
+        transition(ReportJobStatus.RUNNING, ReportJobStatus.FAILED);
+    }
+
+    boolean release() {
+        return released.compareAndSet(false, true);
+    }
+
+    Future<?> getFuture() {
+        return future;
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+}
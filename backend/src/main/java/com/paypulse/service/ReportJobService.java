@@ -0,0 +1,284 @@
+package com.paypulse.service;
+
+import com.paypulse.config.ReportJobProperties;
+import com.paypulse.dto.ReportJobRequest;
+import com.paypulse.dto.ReportJobResponse;
+import com.paypulse.entity.User;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Service
+public class ReportJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportJobService.class);
+
+    private final ReportService reportService;
+    private final CurrentUserService currentUserService;
+    private final ThreadPoolExecutor reportJobExecutor;
+    private final ReportJobProperties properties;
+    private final Map<UUID, ReportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> activeJobsByUser = new ConcurrentHashMap<>();
+
+    public ReportJobService(ReportService reportService,
+                            CurrentUserService currentUserService,
+                            ReportJobProperties properties,
+                            MeterRegistry meterRegistry,
+                            Environment environment) {
+        this.reportService = reportService;
+        this.currentUserService = currentUserService;
+        this.properties = properties;
+        this.reportJobExecutor = new ThreadPoolExecutor(
+                properties.getWorkers(),
+                properties.getWorkers(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                Threading.VIRTUAL.isActive(environment)
+                        ? new VirtualThreadTaskExecutor("report-job-").getVirtualThreadFactory()
+                        : new CustomizableThreadFactory("report-job-"));
+        this.reportJobExecutor.allowCoreThreadTimeOut(true);
+        new ExecutorServiceMetrics(reportJobExecutor, "reportJobs", Tags.empty()).bindTo(meterRegistry);
+        Gauge.builder("paypulse.report.jobs.active", activeJobsByUser,
+                        active -> active.values().stream().mapToInt(Integer::intValue).sum())
+                .description("Report jobs queued or running")
+                .register(meterRegistry);
+        Gauge.builder("paypulse.report.jobs.queue.depth", reportJobExecutor, executor -> executor.getQueue().size())
+                .description("Report jobs waiting for a worker")
+                .register(meterRegistry);
+    }
+
+    public ReportJobResponse submit(ReportJobRequest request) {
+        User user = currentUserService.getCurrentUser();
+        ReportJob job = newJob(user, request);
+
+        activeJobsByUser.compute(user.getId(), (id, active) -> {
+            int count = active != null ? active : 0;
+            if (count >= properties.getPerUserLimit()) {
+                throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                        "Too many report jobs in progress, try again once one finishes");
+            }
+            return count + 1;
+        });
+
+        jobs.put(job.getId(), job);
+        try {
+            job.setFuture(reportJobExecutor.submit(() -> run(job, user)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            release(job);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Report queue is full, try again later");
+        }
+        return toDto(job);
+    }
+
+    public List<ReportJobResponse> listJobs() {
+        User user = currentUserService.getCurrentUser();
+        return jobs.values().stream()
+                .filter(job -> job.getUserId().equals(user.getId()))
+                .sorted(Comparator.comparing(ReportJob::getCreatedAt).reversed())
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    public ReportJobResponse getJob(UUID id) {
+        return toDto(getJobForCurrentUser(id));
+    }
+
+    public ReportJob getCompletedJob(UUID id) {
+        ReportJob job = getJobForCurrentUser(id);
+        if (job.getStatus() != ReportJobStatus.COMPLETED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Report job is " + job.getStatus());
+        }
+        return job;
+    }
+
+    public Resource download(ReportJob job) {
+        return new FileSystemResource(job.getFile());
+    }
+
+    public ReportJobResponse cancel(UUID id) {
+        ReportJob job = getJobForCurrentUser(id);
+        if (job.transition(ReportJobStatus.QUEUED, ReportJobStatus.CANCELLED)) {
+            if (job.getFuture() != null) {
+                job.getFuture().cancel(false);
+            }
+            release(job);
+        } else if (job.transition(ReportJobStatus.RUNNING, ReportJobStatus.CANCELLED)) {
+            // The worker still holds the user's slot until generation actually stops; run() releases it.
+            if (job.getFuture() != null) {
+                job.getFuture().cancel(true);
+            }
+        }
+        return toDto(job);
+    }
+
+    @Scheduled(fixedDelayString = "${paypulse.report-jobs.cleanup-interval:PT5M}")
+    public void removeExpiredJobs() {
+        Instant cutoff = Instant.now().minus(properties.getRetention());
+        jobs.values().removeIf(job -> {
+            if (!job.getStatus().isFinished() || job.getFinishedAt().isAfter(cutoff)) {
+                return false;
+            }
+            deleteSpoolFile(job);
+            return true;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reportJobExecutor.shutdownNow();
+        jobs.values().forEach(this::deleteSpoolFile);
+        jobs.clear();
+    }
+
+    private ReportJob newJob(User user, ReportJobRequest request) {
+        LocalDate start;
+        LocalDate end;
+        if (request.getStart() != null || request.getEnd() != null) {
+            if (request.getStart() == null || request.getEnd() == null) {
+                throw new IllegalArgumentException("Both start and end are required for a date range report");
+            }
+            if (request.getFormat() != ReportFormat.PDF) {
+                throw new IllegalArgumentException("Date range reports are only available as PDF");
+            }
+            if (request.getEnd().isBefore(request.getStart())) {
+                throw new IllegalArgumentException("Report end date must not be before start date");
+            }
+            start = request.getStart();
+            end = request.getEnd();
+        } else {
+            LocalDate today = LocalDate.now();
+            YearMonth period = YearMonth.of(
+                    request.getYear() != null ? request.getYear() : today.getYear(),
+                    request.getMonth() != null ? request.getMonth() : today.getMonthValue());
+            start = period.atDay(1);
+            end = period.atEndOfMonth();
+        }
+        return new ReportJob(user.getId(), request.getFormat(), start, end, properties.getSpoolDirectory());
+    }
+
+    private void run(ReportJob job, User user) {
+        if (!job.transition(ReportJobStatus.QUEUED, ReportJobStatus.RUNNING)) {
+            return;
+        }
+        try {
+            Files.createDirectories(job.getFile().getParent());
+            try (OutputStream out = new BufferedOutputStream(new CancellableOutputStream(Files.newOutputStream(job.getFile()), job))) {
+                write(job, user, out);
+            }
+            if (!job.transition(ReportJobStatus.RUNNING, ReportJobStatus.COMPLETED)) {
+                deleteSpoolFile(job);
+            }
+        } catch (Exception e) {
+            if (!job.isCancelled()) {
+                log.warn("Report job {} failed", job.getId(), e);
+                job.fail("Report generation failed");
+            }
+            deleteSpoolFile(job);
+        } finally {
+            release(job);
+        }
+    }
+
+    private void write(ReportJob job, User user, OutputStream out) throws IOException {
+        YearMonth period = YearMonth.from(job.getStart());
+        boolean monthly = period.atDay(1).equals(job.getStart()) && period.atEndOfMonth().equals(job.getEnd());
+        if (job.getFormat() == ReportFormat.EXCEL) {
+            reportService.writeMonthlyExcel(user, period.getYear(), period.getMonthValue(), out);
+        } else if (monthly) {
+            reportService.writeMonthlyPdf(user, period.getYear(), period.getMonthValue(), out);
+        } else {
+            reportService.writePdf(user, job.getStart(), job.getEnd(), out);
+        }
+    }
+
+    private ReportJob getJobForCurrentUser(UUID id) {
+        User user = currentUserService.getCurrentUser();
+        ReportJob job = jobs.get(id);
+        if (job == null || !job.getUserId().equals(user.getId())) {
+            throw new EntityNotFoundException("Report job not found");
+        }
+        return job;
+    }
+
+    private void release(ReportJob job) {
+        if (job.release()) {
+            activeJobsByUser.computeIfPresent(job.getUserId(), (id, active) -> active > 1 ? active - 1 : null);
+        }
+    }
+
+    private void deleteSpoolFile(ReportJob job) {
+        try {
+            Files.deleteIfExists(job.getFile());
+        } catch (IOException e) {
+            log.warn("Could not delete spooled report {}", job.getFile(), e);
+        }
+    }
+
+    private ReportJobResponse toDto(ReportJob job) {
+        return new ReportJobResponse(job.getId(), job.getFormat(), job.getStart(), job.getEnd(), job.getStatus(),
+                job.getCreatedAt(), job.getFinishedAt(), job.getError());
+    }
+
+    private static class CancellableOutputStream extends FilterOutputStream {
+        private final ReportJob job;
+
+        CancellableOutputStream(OutputStream out, ReportJob job) {
+            super(out);
+            this.job = job;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            checkCancelled();
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            checkCancelled();
+            out.write(b, off, len);
+        }
+
+        private void checkCancelled() throws InterruptedIOException {
+            if (job.isCancelled()) {
+                throw new InterruptedIOException("Report job cancelled");
+            }
+        }
+    }
+}
@@ -6,93 +6,180 @@ import com.lowagie.text.Font;
 import com.lowagie.text.FontFactory;
 import com.lowagie.text.Paragraph;
 import com.lowagie.text.Phrase;
-import com.lowagie.text.Table;
-import com.paypulse.dto.ExpenseResponse;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
 import com.paypulse.entity.User;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 public class ReportService {
 
+    private static final int EXCEL_ROW_WINDOW = 100;
+    private static final int PDF_CHUNK_ROWS = 200;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final Font PDF_HEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16);
+    private static final Font PDF_REGULAR_FONT = FontFactory.getFont(FontFactory.HELVETICA, 12);
+
     private final ExpenseService expenseService;
     private final CurrentUserService currentUserService;
+    private final ReportDataVersionService reportDataVersionService;
+    private final ReportCache reportCache;
+    private final MeterRegistry meterRegistry;
 
     public ReportService(ExpenseService expenseService,
-                         CurrentUserService currentUserService) {
+                         CurrentUserService currentUserService,
+                         ReportDataVersionService reportDataVersionService,
+                         ReportCache reportCache,
+                         MeterRegistry meterRegistry) {
         this.expenseService = expenseService;
         this.currentUserService = currentUserService;
+        this.reportDataVersionService = reportDataVersionService;
+        this.reportCache = reportCache;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public ReportCacheKey monthlyReportKey(User user, ReportFormat format, int year, int month) {
+        YearMonth period = YearMonth.of(year, month);
+        String profileHash = Integer.toHexString(Objects.hash(user.getFullName(), user.getEmail(), user.getBaseCurrency()));
+        return new ReportCacheKey(user.getId(), format, period,
+                reportDataVersionService.currentVersion(user, period), profileHash);
+    }
+
+    public Resource getMonthlyReport(User user, ReportCacheKey key) {
+        return reportCache.get(key)
+                .orElseGet(() -> reportCache.store(key, out -> writeMonthlyReport(user, key, out)));
+    }
+
+    public boolean isMonthlyReportCacheEnabled() {
+        return reportCache.isEnabled();
+    }
+
+    public void writeMonthlyReport(User user, ReportCacheKey key, OutputStream out) throws IOException {
+        int year = key.getPeriod().getYear();
+        int month = key.getPeriod().getMonthValue();
+        switch (key.getFormat()) {
+            case PDF -> writeMonthlyPdf(user, year, month, out);
+            case EXCEL -> writeMonthlyExcel(user, year, month, out);
+        }
     }
 
     public byte[] generateMonthlyPdf(int year, int month) {
-        YearMonth yearMonth = YearMonth.of(year, month);
-        LocalDate start = yearMonth.atDay(1);
-        LocalDate end = yearMonth.atEndOfMonth();
-        List<ExpenseResponse> expenses = expenseService.listExpensesForRange(start, end);
         User user = currentUserService.getCurrentUser();
-        BigDecimal total = expenses.stream()
-                .map(ExpenseResponse::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
         try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            writeMonthlyPdf(user, year, month, out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to generate PDF report", e);
+        }
+    }
+
+    public void writeMonthlyPdf(User user, int year, int month, OutputStream out) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        writePdf(user, "PayPulse Monthly Report", yearMonth.getMonth() + " " + year,
+                yearMonth.atDay(1), yearMonth.atEndOfMonth(), out);
+    }
+
+    public void writePdf(User user, LocalDate start, LocalDate end, OutputStream out) {
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("Report end date must not be before start date");
+        }
+        writePdf(user, "PayPulse Expense Report", start.format(DATE_FORMAT) + " to " + end.format(DATE_FORMAT),
+                start, end, out);
+    }
+
+    private void writePdf(User user, String title, String period, LocalDate start, LocalDate end, OutputStream out) {
+        try {
+            record(ReportFormat.PDF, out, counted -> renderPdf(user, title, period, start, end, counted));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to generate PDF report", e);
+        }
+    }
+
+    private void renderPdf(User user, String title, String period, LocalDate start, LocalDate end, OutputStream out) {
+        BigDecimal total = expenseService.sumForRange(user, start, end);
+        try {
             Document document = new Document();
-            com.lowagie.text.pdf.PdfWriter.getInstance(document, out);
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false);
             document.open();
 
-            Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16);
-            Font regularFont = FontFactory.getFont(FontFactory.HELVETICA, 12);
-
-            document.add(new Paragraph("PayPulse Monthly Report", headerFont));
-            document.add(new Paragraph("User: " + user.getFullName() + " (" + user.getEmail() + ")", regularFont));
-            document.add(new Paragraph("Period: " + yearMonth.getMonth() + " " + year, regularFont));
-            document.add(new Paragraph("Total Spent: " + user.getBaseCurrency() + " " + total, regularFont));
+            document.add(new Paragraph(title, PDF_HEADER_FONT));
+            document.add(new Paragraph("User: " + user.getFullName() + " (" + user.getEmail() + ")", PDF_REGULAR_FONT));
+            document.add(new Paragraph("Period: " + period, PDF_REGULAR_FONT));
+            document.add(new Paragraph("Total Spent: " + user.getBaseCurrency() + " " + total, PDF_REGULAR_FONT));
             document.add(new Paragraph(" "));
 
-            Table table = new Table(5);
-            table.addCell(new Phrase("Date", headerFont));
-            table.addCell(new Phrase("Category", headerFont));
-            table.addCell(new Phrase("Merchant", headerFont));
-            table.addCell(new Phrase("Note", headerFont));
-            table.addCell(new Phrase("Amount (" + user.getBaseCurrency() + ")", headerFont));
-
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-            for (ExpenseResponse expense : expenses) {
-                table.addCell(new Phrase(expense.getExpenseDate().format(formatter), regularFont));
-                table.addCell(new Phrase(expense.getCategoryName(), regularFont));
-                table.addCell(new Phrase(expense.getMerchant() != null ? expense.getMerchant() : "-", regularFont));
-                table.addCell(new Phrase(expense.getNote() != null ? expense.getNote() : "-", regularFont));
-                table.addCell(new Phrase(expense.getAmount().toPlainString(), regularFont));
-            }
+            PdfPTable table = new PdfPTable(5);
+            table.setWidthPercentage(100);
+            table.setHeaderRows(1);
+            table.setComplete(false);
+            table.addCell(new Phrase("Date", PDF_HEADER_FONT));
+            table.addCell(new Phrase("Category", PDF_HEADER_FONT));
+            table.addCell(new Phrase("Merchant", PDF_HEADER_FONT));
+            table.addCell(new Phrase("Note", PDF_HEADER_FONT));
+            table.addCell(new Phrase("Amount (" + user.getBaseCurrency() + ")", PDF_HEADER_FONT));
+
+            AtomicInteger pendingRows = new AtomicInteger();
+            expenseService.streamExpensesForRange(user, start, end, expense -> {
+                table.addCell(new Phrase(expense.getExpenseDate().format(DATE_FORMAT), PDF_REGULAR_FONT));
+                table.addCell(new Phrase(expense.getCategoryName(), PDF_REGULAR_FONT));
+                table.addCell(new Phrase(expense.getMerchant() != null ? expense.getMerchant() : "-", PDF_REGULAR_FONT));
+                table.addCell(new Phrase(expense.getNote() != null ? expense.getNote() : "-", PDF_REGULAR_FONT));
+                table.addCell(new Phrase(expense.getAmount().toPlainString(), PDF_REGULAR_FONT));
+                if (pendingRows.incrementAndGet() == PDF_CHUNK_ROWS) {
+                    document.add(table);
+                    pendingRows.set(0);
+                }
+            });
 
+            table.setComplete(true);
             document.add(table);
             document.close();
-            return out.toByteArray();
-        } catch (DocumentException | IOException e) {
+        } catch (DocumentException e) {
             throw new IllegalStateException("Failed to generate PDF report", e);
         }
     }
 
     public byte[] generateMonthlyExcel(int year, int month) {
-        YearMonth yearMonth = YearMonth.of(year, month);
-        LocalDate start = yearMonth.atDay(1);
-        LocalDate end = yearMonth.atEndOfMonth();
-        List<ExpenseResponse> expenses = expenseService.listExpensesForRange(start, end);
         User user = currentUserService.getCurrentUser();
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            writeMonthlyExcel(user, year, month, out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to generate Excel report", e);
+        }
+    }
+
+    public void writeMonthlyExcel(User user, int year, int month, OutputStream out) throws IOException {
+        record(ReportFormat.EXCEL, out, counted -> renderMonthlyExcel(user, year, month, counted));
+    }
 
-        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+    private void renderMonthlyExcel(User user, int year, int month, OutputStream out) throws IOException {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        SXSSFWorkbook workbook = new SXSSFWorkbook(EXCEL_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
             Sheet sheet = workbook.createSheet("Expenses");
             sheet.setDefaultColumnWidth(18);
             CellStyle headerStyle = workbook.createCellStyle();
@@ -108,22 +195,62 @@ public class ReportService {
                 cell.setCellStyle(headerStyle);
             }
 
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-            int rowIdx = 1;
-            for (ExpenseResponse expense : expenses) {
-                Row row = sheet.createRow(rowIdx++);
-                row.createCell(0).setCellValue(expense.getExpenseDate().format(formatter));
+            AtomicInteger rowIdx = new AtomicInteger(1);
+            expenseService.streamExpensesForRange(user, yearMonth.atDay(1), yearMonth.atEndOfMonth(), expense -> {
+                Row row = sheet.createRow(rowIdx.getAndIncrement());
+                row.createCell(0).setCellValue(expense.getExpenseDate().format(DATE_FORMAT));
                 row.createCell(1).setCellValue(expense.getCategoryName());
                 row.createCell(2).setCellValue(expense.getMerchant() != null ? expense.getMerchant() : "-");
                 row.createCell(3).setCellValue(expense.getNote() != null ? expense.getNote() : "-");
                 row.createCell(4).setCellValue(expense.getAmount().doubleValue());
-            }
+            });
 
             workbook.write(out);
-            return out.toByteArray();
-        } catch (IOException e) {
-            throw new IllegalStateException("Failed to generate Excel report", e);
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
     }
-}
 
+    private void record(ReportFormat format, OutputStream out, ReportCache.ReportWriter writer) throws IOException {
+        CountingOutputStream counted = new CountingOutputStream(out);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            writer.write(counted);
+            outcome = "success";
+            DistributionSummary.builder("paypulse.report.size")
+                    .baseUnit(BaseUnits.BYTES)
+                    .tag("format", format.getExtension())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(counted.count);
+        } finally {
+            sample.stop(Timer.builder("paypulse.report.generation")
+                    .tag("format", format.getExtension())
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -8,32 +8,40 @@ import com.paypulse.repository.SavingsGoalRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 public class SavingsGoalService {
 
+    private static final String PENDING_DELTAS = SavingsGoalService.class.getName() + ".pendingDeltas";
+
     private final SavingsGoalRepository savingsGoalRepository;
     private final CurrentUserService currentUserService;
+    private final ChangeFeedService changeFeedService;
 
     public SavingsGoalService(SavingsGoalRepository savingsGoalRepository,
-                              CurrentUserService currentUserService) {
+                              CurrentUserService currentUserService,
+                              ChangeFeedService changeFeedService) {
         this.savingsGoalRepository = savingsGoalRepository;
         this.currentUserService = currentUserService;
+        this.changeFeedService = changeFeedService;
     }
 
+    @Transactional(readOnly = true)
     public List<SavingsGoalResponse> listGoals() {
-        User user = currentUserService.getCurrentUser();
-        return savingsGoalRepository.findAllByUserOrderByCreatedAtDesc(user).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return listGoals(currentUserService.getCurrentUser());
+    }
+
+    @Transactional(readOnly = true)
+    public List<SavingsGoalResponse> listGoals(User user) {
+        return savingsGoalRepository.findResponsesByUser(user);
     }
 
     @Transactional
@@ -50,7 +58,9 @@ public class SavingsGoalService {
         goal.setTargetAmount(request.getTargetAmount());
         goal.setSavedAmount(request.getSavedAmount());
         goal.setTargetDate(request.getTargetDate());
-        return toDto(savingsGoalRepository.save(goal));
+        SavingsGoal saved = savingsGoalRepository.save(goal);
+        changeFeedService.recordUpsert(user, SyncEntityType.SAVINGS_GOAL, saved.getId());
+        return toDto(saved);
     }
 
     @Transactional
@@ -60,8 +70,10 @@ public class SavingsGoalService {
                 .filter(g -> g.getUser().getId().equals(user.getId()))
                 .orElseThrow(() -> new EntityNotFoundException("Goal not found"));
         savingsGoalRepository.delete(goal);
+        changeFeedService.recordDelete(user, SyncEntityType.SAVINGS_GOAL, id);
     }
 
+    @Transactional(readOnly = true)
     public BigDecimal totalSavings() {
         return listGoals().stream()
                 .map(SavingsGoalResponse::getSavedAmount)
@@ -77,48 +89,49 @@ public class SavingsGoalService {
     }
 
     @Transactional
-    public void adjustSavedAmount(UUID goalId, BigDecimal delta) {
+    public void adjustSavedAmount(User user, UUID goalId, BigDecimal delta) {
         if (delta == null || delta.compareTo(BigDecimal.ZERO) == 0) {
             return;
         }
-        SavingsGoal goal = getGoalForCurrentUser(goalId);
-        BigDecimal updated = goal.getSavedAmount().add(delta);
-        if (updated.compareTo(BigDecimal.ZERO) < 0) {
-            updated = BigDecimal.ZERO;
+        pendingDeltas(user).merge(goalId, delta, BigDecimal::add);
+        changeFeedService.recordUpsert(user, SyncEntityType.SAVINGS_GOAL, goalId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, BigDecimal> pendingDeltas(User user) {
+        Map<UUID, BigDecimal> pending = (Map<UUID, BigDecimal>) TransactionSynchronizationManager.getResource(PENDING_DELTAS);
+        if (pending != null) {
+            return pending;
         }
-        goal.setSavedAmount(updated);
-        savingsGoalRepository.save(goal);
+        Map<UUID, BigDecimal> deltas = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(PENDING_DELTAS, deltas);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                deltas.forEach((goalId, delta) -> {
+                    if (delta.compareTo(BigDecimal.ZERO) != 0) {
+                        savingsGoalRepository.applySavedAmountDelta(user, goalId, delta);
+                    }
+                });
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_DELTAS);
+            }
+        });
+        return deltas;
     }
 
     private SavingsGoalResponse toDto(SavingsGoal goal) {
-        BigDecimal remaining = goal.getTargetAmount().subtract(goal.getSavedAmount()).max(BigDecimal.ZERO);
-        int progress = goal.getTargetAmount().compareTo(BigDecimal.ZERO) == 0
-                ? 0
-                : goal.getSavedAmount()
-                .multiply(BigDecimal.valueOf(100))
-                .divide(goal.getTargetAmount(), 0, RoundingMode.HALF_UP)
-                .intValue();
-        LocalDate today = LocalDate.now();
-        long daysLeft = goal.getTargetDate() != null && goal.getTargetDate().isAfter(today)
-                ? ChronoUnit.DAYS.between(today, goal.getTargetDate())
-                : 0;
-        BigDecimal dailyNeeded = (daysLeft > 0 && remaining.compareTo(BigDecimal.ZERO) > 0)
-                ? remaining.divide(BigDecimal.valueOf(daysLeft), 2, RoundingMode.HALF_UP)
-                : BigDecimal.ZERO;
-
         return new SavingsGoalResponse(
                 goal.getId(),
                 goal.getName(),
                 goal.getLabel(),
                 goal.getTargetAmount(),
                 goal.getSavedAmount(),
-                remaining,
-                progress,
                 goal.getTargetDate(),
-                goal.getCreatedAt(),
-                daysLeft,
-                dailyNeeded
+                goal.getCreatedAt()
         );
     }
 }
-
@@ -0,0 +1,48 @@
+package com.paypulse.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum SeriesGranularity {
+    DAY(30),
+    WEEK(12),
+    MONTH(12),
+    YEAR(5);
+
+    private final int defaultBuckets;
+
+    SeriesGranularity(int defaultBuckets) {
+        this.defaultBuckets = defaultBuckets;
+    }
+
+    public int getDefaultBuckets() {
+        return defaultBuckets;
+    }
+
+    public boolean isMonthAligned() {
+        return this == MONTH || this == YEAR;
+    }
+
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+            case YEAR -> date.withDayOfYear(1);
+        };
+    }
+
+    public LocalDate plus(LocalDate bucketStart, long buckets) {
+        return switch (this) {
+            case DAY -> bucketStart.plusDays(buckets);
+            case WEEK -> bucketStart.plusWeeks(buckets);
+            case MONTH -> bucketStart.plusMonths(buckets);
+            case YEAR -> bucketStart.plusYears(buckets);
+        };
+    }
+
+    public LocalDate bucketEnd(LocalDate bucketStart) {
+        return plus(bucketStart, 1).minusDays(1);
+    }
+}
@@ -30,12 +30,15 @@ public class SettingsService {
 
     @Transactional
     public SettingsResponse updateSettings(SettingsUpdateRequest request) {
-        User user = currentUserService.getCurrentUser();
+        User currentUser = currentUserService.getCurrentUser();
+        User user = userRepository.findById(currentUser.getId())
+                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
         user.setBaseCurrency(request.getBaseCurrency());
         if (request.getNewPin() != null && !request.getNewPin().isEmpty()) {
             user.setSecurityPinHash(passwordEncoder.encode(request.getNewPin()));
         }
         userRepository.save(user);
+        currentUserService.evict(user.getEmail());
         return new SettingsResponse(user.getBaseCurrency(), user.getSecurityPinHash() != null);
     }
 }
@@ -0,0 +1,65 @@
+package com.paypulse.service;
+
+import com.paypulse.config.RollupProperties;
+import com.paypulse.dto.RollupDriftReport;
+import com.paypulse.entity.User;
+import com.paypulse.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SpendRollupJob {
+
+    private static final Logger log = LoggerFactory.getLogger(SpendRollupJob.class);
+
+    private final SpendRollupService spendRollupService;
+    private final UserRepository userRepository;
+    private final RollupProperties properties;
+
+    public SpendRollupJob(SpendRollupService spendRollupService,
+                          UserRepository userRepository,
+                          RollupProperties properties) {
+        this.spendRollupService = spendRollupService;
+        this.userRepository = userRepository;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairOnStartup() {
+        if (properties.isRepairOnStartup()) {
+            run(true);
+        }
+    }
+
+    @Scheduled(cron = "${paypulse.rollup.verify-cron:0 30 3 * * *}")
+    public void verifyNightly() {
+        run(properties.isRepairOnDrift());
+    }
+
+    public RollupDriftReport run(boolean repair) {
+        RollupDriftReport report = new RollupDriftReport(repair);
+        PageRequest pageRequest = PageRequest.of(0, properties.getUserBatchSize(), Sort.by("id"));
+        Page<User> users;
+        do {
+            users = userRepository.findAll(pageRequest);
+            for (User user : users) {
+                spendRollupService.verifyUser(user, repair, report);
+            }
+            pageRequest = pageRequest.next();
+        } while (users.hasNext());
+
+        if (report.hasDrift()) {
+            log.warn("Daily spend rollup drift detected: {}", report);
+        } else {
+            log.info("Daily spend rollup verified: {}", report);
+        }
+        return report;
+    }
+}
@@ -0,0 +1,245 @@
+package com.paypulse.service;
+
+import com.paypulse.dto.CategorySpendSummary;
+import com.paypulse.dto.DailySpendTotal;
+import com.paypulse.dto.RollupDriftReport;
+import com.paypulse.dto.SpendBucketTotal;
+import com.paypulse.dto.SpendWindow;
+import com.paypulse.entity.Category;
+import com.paypulse.entity.DailySpendRollup;
+import com.paypulse.entity.User;
+import com.paypulse.repository.CategoryRepository;
+import com.paypulse.repository.DailySpendRollupRepository;
+import com.paypulse.repository.ExpenseRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+public class SpendRollupService {
+
+    private static final String APPLY_DELTA = "update daily_spend_rollup " +
+            "set total_amount = total_amount + ?, expense_count = expense_count + ? " +
+            "where user_id = ? and category_id = ? and spend_date = ?";
+    private static final String INSERT_EMPTY_ROLLUP = "insert into daily_spend_rollup " +
+            "(id, spend_date, total_amount, expense_count, category_id, user_id) values (?, ?, 0, 0, ?, ?) " +
+            "on conflict do nothing";
+    private static final String LOCK_USER_ROLLUPS = "select id from users where id = ? for update";
+    private static final String DELETE_EMPTY_ROLLUP = "delete from daily_spend_rollup " +
+            "where user_id = ? and category_id = ? and spend_date = ? and expense_count <= 0";
+
+    private final DailySpendRollupRepository rollupRepository;
+    private final ExpenseRepository expenseRepository;
+    private final CategoryRepository categoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public SpendRollupService(DailySpendRollupRepository rollupRepository,
+                              ExpenseRepository expenseRepository,
+                              CategoryRepository categoryRepository,
+                              JdbcTemplate jdbcTemplate,
+                              EntityManager entityManager) {
+        this.rollupRepository = rollupRepository;
+        this.expenseRepository = expenseRepository;
+        this.categoryRepository = categoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Transactional
+    public void record(User user, Category category, LocalDate spendDate, BigDecimal amount) {
+        apply(user, category, spendDate, amount, 1);
+    }
+
+    @Transactional
+    public void applyAll(User user, List<DailySpendTotal> totals) {
+        if (totals.isEmpty()) {
+            return;
+        }
+        lockRollups(user);
+        List<Object[]> updates = new ArrayList<>(totals.size());
+        for (DailySpendTotal total : totals) {
+            updates.add(new Object[]{total.getTotalAmount(), total.getExpenseCount(),
+                    user.getId(), total.getCategoryId(), Date.valueOf(total.getSpendDate())});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(APPLY_DELTA, updates);
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> retries = new ArrayList<>();
+        List<Object[]> emptied = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            DailySpendTotal total = totals.get(i);
+            if (updated[i] == 0 && total.getExpenseCount() >= 0) {
+                inserts.add(new Object[]{UUID.randomUUID(), Date.valueOf(total.getSpendDate()),
+                        total.getCategoryId(), user.getId()});
+                retries.add(updates.get(i));
+            } else if (total.getExpenseCount() < 0) {
+                emptied.add(new Object[]{user.getId(), total.getCategoryId(), Date.valueOf(total.getSpendDate())});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_EMPTY_ROLLUP, inserts);
+            jdbcTemplate.batchUpdate(APPLY_DELTA, retries);
+        }
+        if (!emptied.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_EMPTY_ROLLUP, emptied);
+        }
+    }
+
+    @Transactional
+    public void remove(User user, Category category, LocalDate spendDate, BigDecimal amount) {
+        apply(user, category, spendDate, amount.negate(), -1);
+    }
+
+    @Transactional
+    public void replace(User user,
+                        Category previousCategory,
+                        LocalDate previousDate,
+                        BigDecimal previousAmount,
+                        Category category,
+                        LocalDate spendDate,
+                        BigDecimal amount) {
+        if (previousCategory.getId().equals(category.getId()) && previousDate.equals(spendDate)) {
+            apply(user, category, spendDate, amount.subtract(previousAmount), 0);
+            return;
+        }
+        remove(user, previousCategory, previousDate, previousAmount);
+        record(user, category, spendDate, amount);
+    }
+
+    @Transactional
+    public void clearCategory(Category category) {
+        rollupRepository.deleteAllByCategory(category);
+    }
+
+    public BigDecimal sumForRange(User user, LocalDate start, LocalDate end) {
+        return rollupRepository.sumByUserAndDateRange(user, start, end);
+    }
+
+    public BigDecimal sumForDate(User user, LocalDate date) {
+        return rollupRepository.sumByUserAndDate(user, date);
+    }
+
+    public BigDecimal sumForCategoryAndRange(User user, Category category, LocalDate start, LocalDate end) {
+        return rollupRepository.sumByUserAndCategoryAndDateRange(user, category, start, end);
+    }
+
+    public List<BigDecimal> windowTotals(User user, List<SpendWindow> windows) {
+        List<BigDecimal> totals = new ArrayList<>(Collections.nCopies(windows.size(), BigDecimal.ZERO));
+        if (windows.isEmpty()) {
+            return totals;
+        }
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < windows.size(); i++) {
+            values.append(i == 0 ? "" : ", ")
+                    .append("(cast(:index").append(i).append(" as integer), ")
+                    .append("cast(:category").append(i).append(" as uuid), ")
+                    .append("cast(:start").append(i).append(" as date), ")
+                    .append("cast(:end").append(i).append(" as date))");
+        }
+        Query query = entityManager.createNativeQuery("select w.window_index, sum(r.total_amount) " +
+                "from (values " + values + ") as w(window_index, category_id, start_date, end_date) " +
+                "join daily_spend_rollup r on r.category_id = w.category_id " +
+                "and r.spend_date between w.start_date and w.end_date " +
+                "where r.user_id = :userId " +
+                "group by w.window_index");
+        query.setParameter("userId", user.getId());
+        for (int i = 0; i < windows.size(); i++) {
+            SpendWindow window = windows.get(i);
+            query.setParameter("index" + i, i);
+            query.setParameter("category" + i, window.getCategoryId());
+            query.setParameter("start" + i, window.getStart());
+            query.setParameter("end" + i, window.getEnd());
+        }
+        for (Object result : query.getResultList()) {
+            Object[] row = (Object[]) result;
+            if (row[1] != null) {
+                totals.set(((Number) row[0]).intValue(), new BigDecimal(row[1].toString()));
+            }
+        }
+        return totals;
+    }
+
+    public List<CategorySpendSummary> summarizeByCategory(User user, LocalDate start, LocalDate end, LocalDate day) {
+        return rollupRepository.summarizeByCategory(user, start, end, day);
+    }
+
+    public List<SpendBucketTotal> bucketTotals(User user, SeriesGranularity granularity,
+                                               LocalDate start, LocalDate end) {
+        return granularity.isMonthAligned()
+                ? rollupRepository.summarizeByMonth(user, start, end)
+                : rollupRepository.summarizeByDay(user, start, end);
+    }
+
+    @Transactional
+    public void verifyUser(User user, boolean repair, RollupDriftReport report) {
+        if (repair) {
+            lockRollups(user);
+        }
+        Map<String, DailySpendTotal> expected = new HashMap<>();
+        for (DailySpendTotal total : expenseRepository.summarizeDailyByUser(user)) {
+            expected.put(key(total.getCategoryId().toString(), total.getSpendDate()), total);
+        }
+
+        for (DailySpendRollup rollup : rollupRepository.findAllByUser(user)) {
+            report.rowChecked();
+            DailySpendTotal total = expected.remove(key(rollup.getCategory().getId().toString(), rollup.getSpendDate()));
+            if (total == null) {
+                report.orphanRow();
+                if (repair) {
+                    rollupRepository.delete(rollup);
+                }
+            } else if (total.getTotalAmount().compareTo(rollup.getTotalAmount()) != 0
+                    || total.getExpenseCount() != rollup.getExpenseCount()) {
+                report.staleRow();
+                if (repair) {
+                    rollup.setTotalAmount(total.getTotalAmount());
+                    rollup.setExpenseCount(total.getExpenseCount());
+                }
+            }
+        }
+
+        for (DailySpendTotal total : expected.values()) {
+            report.missingRow();
+            if (repair) {
+                DailySpendRollup rollup = new DailySpendRollup();
+                rollup.setUser(user);
+                rollup.setCategory(categoryRepository.getReferenceById(total.getCategoryId()));
+                rollup.setSpendDate(total.getSpendDate());
+                rollup.setTotalAmount(total.getTotalAmount());
+                rollup.setExpenseCount(total.getExpenseCount());
+                rollupRepository.save(rollup);
+            }
+        }
+        report.userChecked();
+    }
+
+    // Every rollup write and every repair takes the owning user's row lock first, so a repair never recomputes
+    // totals while another transaction is half-way through applying a delta for the same user.
+    private void lockRollups(User user) {
+        jdbcTemplate.queryForList(LOCK_USER_ROLLUPS, UUID.class, user.getId());
+    }
+
+    private void apply(User user, Category category, LocalDate spendDate, BigDecimal amount, long count) {
+        if (amount.compareTo(BigDecimal.ZERO) == 0 && count == 0) {
+            return;
+        }
+        applyAll(user, List.of(new DailySpendTotal(category.getId(), spendDate, amount, count)));
+    }
+
+    private static String key(String categoryId, LocalDate spendDate) {
+        return categoryId + "|" + spendDate;
+    }
+}
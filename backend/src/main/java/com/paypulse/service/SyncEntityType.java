@@ -0,0 +1,8 @@
+package com.paypulse.service;
+
+public enum SyncEntityType {
+    CATEGORY,
+    SAVINGS_GOAL,
+    BUDGET,
+    EXPENSE
+}
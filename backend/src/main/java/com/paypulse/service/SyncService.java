@@ -0,0 +1,89 @@
+package com.paypulse.service;
+
+import com.paypulse.dto.SyncChangesResponse;
+import com.paypulse.dto.SyncTombstone;
+import com.paypulse.entity.User;
+import com.paypulse.repository.CategoryRepository;
+import com.paypulse.repository.ExpenseRepository;
+import com.paypulse.repository.SavingsGoalRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+public class SyncService {
+
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    private final ChangeFeedService changeFeedService;
+    private final CurrentUserService currentUserService;
+    private final CategoryRepository categoryRepository;
+    private final SavingsGoalRepository savingsGoalRepository;
+    private final ExpenseRepository expenseRepository;
+    private final BudgetService budgetService;
+
+    public SyncService(ChangeFeedService changeFeedService,
+                       CurrentUserService currentUserService,
+                       CategoryRepository categoryRepository,
+                       SavingsGoalRepository savingsGoalRepository,
+                       ExpenseRepository expenseRepository,
+                       BudgetService budgetService) {
+        this.changeFeedService = changeFeedService;
+        this.currentUserService = currentUserService;
+        this.categoryRepository = categoryRepository;
+        this.savingsGoalRepository = savingsGoalRepository;
+        this.expenseRepository = expenseRepository;
+        this.budgetService = budgetService;
+    }
+
+    @Transactional(readOnly = true)
+    public SyncChangesResponse changesSince(long since) {
+        if (since < 0) {
+            throw new IllegalArgumentException("since must not be negative");
+        }
+        User user = currentUserService.getCurrentUser();
+        long version = changeFeedService.currentVersion(user);
+        if (since > version) {
+            throw new ResponseStatusException(HttpStatus.GONE, "Sync version is ahead of the server, resync from 0");
+        }
+
+        Map<SyncEntityType, List<UUID>> upserts = new EnumMap<>(SyncEntityType.class);
+        List<SyncTombstone> deleted = new ArrayList<>();
+        for (ChangeFeedService.Change change : changeFeedService.changesBetween(user, since, version)) {
+            if (change.deleted()) {
+                deleted.add(new SyncTombstone(change.type(), change.id(), change.version()));
+            } else {
+                upserts.computeIfAbsent(change.type(), type -> new ArrayList<>()).add(change.id());
+            }
+        }
+
+        return new SyncChangesResponse(
+                since,
+                version,
+                load(upserts.get(SyncEntityType.CATEGORY), ids -> categoryRepository.findResponsesByUserAndIdIn(user, ids)),
+                load(upserts.get(SyncEntityType.SAVINGS_GOAL), ids -> savingsGoalRepository.findResponsesByUserAndIdIn(user, ids)),
+                load(upserts.get(SyncEntityType.BUDGET), ids -> budgetService.listBudgets(user, ids)),
+                load(upserts.get(SyncEntityType.EXPENSE), ids -> expenseRepository.findResponsesByUserAndIdIn(user, ids)),
+                deleted
+        );
+    }
+
+    private static <T> List<T> load(List<UUID> ids, Function<List<UUID>, List<T>> loader) {
+        if (ids == null) {
+            return List.of();
+        }
+        List<T> rows = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            rows.addAll(loader.apply(ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()))));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,87 @@
+create table users (
+    id uuid not null,
+    email varchar(255) not null,
+    password_hash varchar(255) not null,
+    full_name varchar(255) not null,
+    base_currency varchar(255) not null,
+    security_pin_hash varchar(255),
+    constraint pk_users primary key (id),
+    constraint uk_users_email unique (email)
+);
+
+create table categories (
+    id uuid not null,
+    name varchar(255) not null,
+    color_hex varchar(255),
+    icon_name varchar(255),
+    user_id uuid not null,
+    constraint pk_categories primary key (id),
+    constraint fk_categories_user foreign key (user_id) references users (id)
+);
+
+create table savings_goals (
+    id uuid not null,
+    name varchar(255) not null,
+    label varchar(255),
+    target_amount numeric(19, 2) not null,
+    saved_amount numeric(19, 2) not null,
+    target_date date,
+    created_at timestamp(6) not null,
+    version bigint not null default 0,
+    user_id uuid not null,
+    constraint pk_savings_goals primary key (id),
+    constraint fk_savings_goals_user foreign key (user_id) references users (id)
+);
+
+create table expenses (
+    id uuid not null,
+    amount numeric(38, 2) not null,
+    expense_date date not null,
+    merchant varchar(255),
+    note varchar(512),
+    category_id uuid not null,
+    savings_goal_id uuid,
+    user_id uuid not null,
+    constraint pk_expenses primary key (id),
+    constraint fk_expenses_category foreign key (category_id) references categories (id),
+    constraint fk_expenses_savings_goal foreign key (savings_goal_id) references savings_goals (id),
+    constraint fk_expenses_user foreign key (user_id) references users (id)
+);
+
+create table budgets (
+    id uuid not null,
+    name varchar(255) not null,
+    total_amount numeric(19, 2) not null,
+    start_date date not null,
+    end_date date not null,
+    recurring_monthly boolean not null,
+    category_id uuid not null,
+    user_id uuid not null,
+    constraint pk_budgets primary key (id),
+    constraint fk_budgets_category foreign key (category_id) references categories (id),
+    constraint fk_budgets_user foreign key (user_id) references users (id)
+);
+
+create table daily_spend_rollup (
+    id uuid not null,
+    spend_date date not null,
+    total_amount numeric(19, 2) not null,
+    expense_count bigint not null,
+    category_id uuid not null,
+    user_id uuid not null,
+    constraint pk_daily_spend_rollup primary key (id),
+    constraint uk_daily_spend_rollup_user_category_date unique (user_id, category_id, spend_date),
+    constraint fk_daily_spend_rollup_category foreign key (category_id) references categories (id),
+    constraint fk_daily_spend_rollup_user foreign key (user_id) references users (id)
+);
+
+create table report_data_versions (
+    id uuid not null,
+    period_year integer not null,
+    period_month integer not null,
+    version bigint not null,
+    user_id uuid not null,
+    constraint pk_report_data_versions primary key (id),
+    constraint uk_report_data_versions_user_period unique (user_id, period_year, period_month),
+    constraint fk_report_data_versions_user foreign key (user_id) references users (id)
+);
@@ -0,0 +1,14 @@
+create index idx_expenses_user_date on expenses (user_id, expense_date desc, id desc);
+create index idx_expenses_user_category_date on expenses (user_id, category_id, expense_date);
+create index idx_expenses_category on expenses (category_id);
+create index idx_expenses_savings_goal on expenses (savings_goal_id);
+
+create index idx_budgets_user_start on budgets (user_id, start_date desc);
+create index idx_budgets_category on budgets (category_id);
+
+create index idx_categories_user_name on categories (user_id, name);
+
+create index idx_savings_goals_user_created on savings_goals (user_id, created_at desc);
+
+create index idx_daily_spend_rollup_user_date on daily_spend_rollup (user_id, spend_date);
+create index idx_daily_spend_rollup_category on daily_spend_rollup (category_id);
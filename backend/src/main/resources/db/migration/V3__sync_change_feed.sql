@@ -0,0 +1,33 @@
+create table sync_versions (
+    user_id uuid not null,
+    version bigint not null,
+    constraint pk_sync_versions primary key (user_id),
+    constraint fk_sync_versions_user foreign key (user_id) references users (id)
+);
+
+create table sync_changes (
+    user_id uuid not null,
+    entity_type varchar(32) not null,
+    entity_id uuid not null,
+    version bigint not null,
+    deleted boolean not null,
+    constraint pk_sync_changes primary key (user_id, entity_type, entity_id),
+    constraint fk_sync_changes_user foreign key (user_id) references users (id)
+);
+
+create index idx_sync_changes_user_version on sync_changes (user_id, version);
+
+insert into sync_versions (user_id, version)
+select id, 1 from users;
+
+insert into sync_changes (user_id, entity_type, entity_id, version, deleted)
+select user_id, 'CATEGORY', id, 1, false from categories;
+
+insert into sync_changes (user_id, entity_type, entity_id, version, deleted)
+select user_id, 'SAVINGS_GOAL', id, 1, false from savings_goals;
+
+insert into sync_changes (user_id, entity_type, entity_id, version, deleted)
+select user_id, 'BUDGET', id, 1, false from budgets;
+
+insert into sync_changes (user_id, entity_type, entity_id, version, deleted)
+select user_id, 'EXPENSE', id, 1, false from expenses;
@@ -0,0 +1,53 @@
+package com.paypulse.config;
+
+import com.paypulse.PayPulseApplication;
+import com.paypulse.entity.User;
+import com.paypulse.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProdDataStoreRestartTest {
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void rowsWrittenInTheProdProfileSurviveARestart() {
+        String email = "restart-" + UUID.randomUUID() + "@paypulse.test";
+
+        try (ConfigurableApplicationContext context = start()) {
+            User user = new User();
+            user.setEmail(email);
+            user.setFullName("Restart Test");
+            user.setBaseCurrency("INR");
+            user.setPasswordHash("not-used");
+            context.getBean(UserRepository.class).save(user);
+        }
+
+        try (ConfigurableApplicationContext context = start()) {
+            assertThat(context.getBean(UserRepository.class).findByEmailIgnoreCase(email))
+                    .get()
+                    .extracting(User::getFullName)
+                    .isEqualTo("Restart Test");
+        }
+        assertThat(dataDir.resolve("paypulse.mv.db")).exists();
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(PayPulseApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run("--spring.profiles.active=prod",
+                        "--paypulse.datastore.directory=" + dataDir,
+                        "--server.port=0",
+                        "--management.server.port=0",
+                        "--spring.main.banner-mode=off");
+    }
+}
@@ -0,0 +1,115 @@
+package com.paypulse.service;
+
+import com.paypulse.config.QueryCounter;
+import com.paypulse.dto.BudgetResponse;
+import com.paypulse.entity.Budget;
+import com.paypulse.entity.Category;
+import com.paypulse.entity.User;
+import com.paypulse.repository.BudgetRepository;
+import com.paypulse.repository.CategoryRepository;
+import com.paypulse.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BudgetQueryCountTest {
+
+    @Autowired
+    private BudgetService budgetService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private BudgetRepository budgetRepository;
+    @Autowired
+    private SpendRollupService spendRollupService;
+    @Autowired
+    private QueryCounter queryCounter;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void listingBudgetsUsesTheSameNumberOfQueriesForAnyNumberOfBudgets() {
+        Seed few = seed(2);
+        Seed many = seed(40);
+
+        long fewQueries = countQueries(few);
+        long manyQueries = countQueries(many);
+
+        assertThat(manyQueries).isEqualTo(fewQueries);
+    }
+
+    @Test
+    void budgetSpendOnlyCountsTheCurrentPeriodOfItsCategory() {
+        Seed seed = seed(3);
+
+        List<BudgetResponse> budgets = budgetService.listBudgets(seed.user(), seed.budgetIds());
+
+        assertThat(budgets).hasSize(3);
+        assertThat(budgets).allSatisfy(budget ->
+                assertThat(budget.getSpentAmount()).isEqualByComparingTo("10.00"));
+    }
+
+    private long countQueries(Seed seed) {
+        queryCounter.start();
+        try {
+            assertThat(budgetService.listBudgets(seed.user(), seed.budgetIds())).hasSize(seed.budgetIds().size());
+            return queryCounter.current();
+        } finally {
+            queryCounter.stop();
+        }
+    }
+
+    private Seed seed(int budgets) {
+        return transactionTemplate.execute(status -> {
+            User user = new User();
+            user.setEmail("budgets-" + UUID.randomUUID() + "@paypulse.test");
+            user.setFullName("Budget Test");
+            user.setBaseCurrency("INR");
+            user.setPasswordHash("not-used");
+            userRepository.save(user);
+
+            YearMonth month = YearMonth.now();
+            List<UUID> budgetIds = new ArrayList<>();
+            for (int i = 0; i < budgets; i++) {
+                Category category = new Category();
+                category.setName("Category " + i);
+                category.setColorHex("#4F46E5");
+                category.setIconName("Receipt");
+                category.setUser(user);
+                categoryRepository.saveAndFlush(category);
+
+                Budget budget = new Budget();
+                budget.setUser(user);
+                budget.setCategory(category);
+                budget.setName("Budget " + i);
+                budget.setTotalAmount(new BigDecimal("1000.00"));
+                budget.setStartDate(month.atDay(1));
+                budget.setEndDate(month.atEndOfMonth());
+                budget.setRecurringMonthly(i % 2 == 0);
+                budgetRepository.save(budget);
+                budgetIds.add(budget.getId());
+
+                LocalDate outsidePeriod = month.atDay(1).minusDays(1);
+                spendRollupService.record(user, category, month.atDay(1), new BigDecimal("10.00"));
+                spendRollupService.record(user, category, outsidePeriod, new BigDecimal("99.00"));
+            }
+            return new Seed(user, budgetIds);
+        });
+    }
+
+    private record Seed(User user, List<UUID> budgetIds) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.paypulse.service;
+
+import com.paypulse.config.QueryCounter;
+import com.paypulse.dto.DashboardSummaryDto;
+import com.paypulse.entity.Category;
+import com.paypulse.entity.Expense;
+import com.paypulse.entity.User;
+import com.paypulse.repository.CategoryRepository;
+import com.paypulse.repository.ExpenseRepository;
+import com.paypulse.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class DashboardQueryCountTest {
+
+    @Autowired
+    private DashboardService dashboardService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ExpenseRepository expenseRepository;
+    @Autowired
+    private SpendRollupService spendRollupService;
+    @Autowired
+    private QueryCounter queryCounter;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void summaryUsesTheSameNumberOfQueriesForAnyNumberOfCategories() {
+        User few = seed(5);
+        User many = seed(60);
+
+        long fewQueries = countQueries(few, 5);
+        long manyQueries = countQueries(many, 60);
+
+        assertThat(manyQueries).isEqualTo(fewQueries);
+    }
+
+    private long countQueries(User user, int categories) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                user.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        dashboardService.getSummary();
+
+        queryCounter.start();
+        try {
+            DashboardSummaryDto summary = dashboardService.getSummary();
+            assertThat(summary.getDegradedSections()).isNull();
+            assertThat(summary.getSpendingByCategory()).hasSize(categories);
+            return queryCounter.current();
+        } finally {
+            queryCounter.stop();
+        }
+    }
+
+    private User seed(int categories) {
+        return transactionTemplate.execute(status -> {
+            User user = new User();
+            user.setEmail("dashboard-" + UUID.randomUUID() + "@paypulse.test");
+            user.setFullName("Dashboard Test");
+            user.setBaseCurrency("INR");
+            user.setPasswordHash("not-used");
+            userRepository.save(user);
+
+            LocalDate today = LocalDate.now();
+            for (int i = 0; i < categories; i++) {
+                Category category = new Category();
+                category.setName("Category " + i);
+                category.setColorHex("#4F46E5");
+                category.setIconName("Receipt");
+                category.setUser(user);
+                categoryRepository.saveAndFlush(category);
+
+                Expense expense = new Expense();
+                expense.setUser(user);
+                expense.setCategory(category);
+                expense.setAmount(new BigDecimal("25.00"));
+                expense.setExpenseDate(today);
+                expense.setMerchant("Merchant " + i);
+                expenseRepository.save(expense);
+                spendRollupService.record(user, category, today, expense.getAmount());
+            }
+            return user;
+        });
+    }
+}
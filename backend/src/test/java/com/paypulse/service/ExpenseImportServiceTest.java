@@ -0,0 +1,87 @@
+package com.paypulse.service;
+
+import com.paypulse.dto.ImportResult;
+import com.paypulse.entity.Category;
+import com.paypulse.entity.User;
+import com.paypulse.importer.ImportFormat;
+import com.paypulse.repository.CategoryRepository;
+import com.paypulse.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ExpenseImportServiceTest {
+
+    @Autowired
+    private ExpenseImportService expenseImportService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private User user;
+
+    @BeforeEach
+    void authenticate() {
+        user = new User();
+        user.setEmail("import-" + UUID.randomUUID() + "@paypulse.test");
+        user.setFullName("Import Test");
+        user.setBaseCurrency("INR");
+        user.setPasswordHash("not-used");
+        userRepository.save(user);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                user.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void failedRowsDoNotLeaveAutoCreatedCategoriesBehind() {
+        ImportResult result = expenseImportService.importExpenses(csv("""
+                date,amount,category
+                2025-01-05,12.50,Groceries
+                2025-01-06,1234567890123456789012345678901234567890.00,Gadgets
+                """), ImportFormat.CSV, null);
+
+        assertThat(result.getRowsImported()).isEqualTo(1);
+        assertThat(result.getRowsFailed()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getLine()).isEqualTo(3));
+        assertThat(categoryRepository.findAllByUserOrderByNameAsc(user))
+                .extracting(Category::getName)
+                .containsExactly("Groceries");
+    }
+
+    @Test
+    void ambiguousAmountsAreReportedAsRowErrors() {
+        ImportResult result = expenseImportService.importExpenses(csv("""
+                date,amount,category
+                2025-01-05,"1.234,56",Groceries
+                2025-01-06,1e5,Groceries
+                2025-01-07,"1,234.56",Groceries
+                """), ImportFormat.CSV, null);
+
+        assertThat(result.getRowsImported()).isEqualTo(1);
+        assertThat(result.getRowsFailed()).isEqualTo(2);
+    }
+
+    private static MockMultipartFile csv(String content) {
+        return new MockMultipartFile("file", "expenses.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,94 @@
+package com.paypulse.service;
+
+import com.paypulse.config.ReportCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private ReportCache cache;
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void createCache() {
+        ReportCacheProperties properties = new ReportCacheProperties();
+        properties.setDirectory(directory);
+        properties.setMemoryMaxEntrySize(DataSize.ofBytes(0));
+        properties.setDiskMaxSize(DataSize.ofBytes(250));
+        cache = new ReportCache(properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void shutdown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void diskTierStaysWithinItsSizeBound() throws IOException {
+        for (int month = 1; month <= 12; month++) {
+            read(cache.store(key(month, 1), out -> out.write(new byte[100])));
+        }
+
+        assertThat(spooledBytes()).isLessThanOrEqualTo(250);
+        assertThat(cache.get(key(12, 1))).isPresent();
+        assertThat(cache.get(key(1, 1))).isEmpty();
+    }
+
+    @Test
+    void staleVersionIsOnlyDeletedAfterItsReaderFinishes() throws IOException {
+        Resource stale = cache.store(key(1, 1), out -> out.write("old".getBytes(StandardCharsets.UTF_8)));
+
+        try (InputStream in = stale.getInputStream()) {
+            read(cache.store(key(1, 2), out -> out.write("new".getBytes(StandardCharsets.UTF_8))));
+
+            assertThat(cache.get(key(1, 1))).isEmpty();
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("old");
+            assertThat(spooledFiles()).hasSize(2);
+        }
+
+        assertThat(spooledFiles()).hasSize(1);
+    }
+
+    private ReportCacheKey key(int month, long version) {
+        return new ReportCacheKey(userId, ReportFormat.PDF, YearMonth.of(2025, month), version, "profile");
+    }
+
+    private static void read(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            in.readAllBytes();
+        }
+    }
+
+    private long spooledBytes() throws IOException {
+        long total = 0;
+        for (Path file : spooledFiles().toArray(Path[]::new)) {
+            total += Files.size(file);
+        }
+        return total;
+    }
+
+    private Stream<Path> spooledFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).toList().stream();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.paypulse.service;
+
+import com.paypulse.dto.RollupDriftReport;
+import com.paypulse.entity.Category;
+import com.paypulse.entity.User;
+import com.paypulse.repository.CategoryRepository;
+import com.paypulse.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SpendRollupServiceTest {
+
+    @Autowired
+    private SpendRollupService spendRollupService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void amountOnlyReplaceCreatesTheRowWhenItIsMissing() {
+        User user = new User();
+        user.setEmail("rollup-" + UUID.randomUUID() + "@paypulse.test");
+        user.setFullName("Rollup Test");
+        user.setBaseCurrency("INR");
+        user.setPasswordHash("not-used");
+        userRepository.save(user);
+
+        Category category = new Category();
+        category.setName("Food");
+        category.setColorHex("#4F46E5");
+        category.setIconName("Receipt");
+        category.setUser(user);
+        categoryRepository.save(category);
+
+        LocalDate day = LocalDate.of(2025, 3, 14);
+        spendRollupService.replace(user, category, day, new BigDecimal("10.00"),
+                category, day, new BigDecimal("25.00"));
+
+        assertThat(spendRollupService.sumForCategoryAndRange(user, category, day, day))
+                .isEqualByComparingTo("15.00");
+    }
+
+    @Test
+    void repairingAUserWithoutDriftLeavesTheRollupUntouched() {
+        User user = new User();
+        user.setEmail("rollup-" + UUID.randomUUID() + "@paypulse.test");
+        user.setFullName("Rollup Test");
+        user.setBaseCurrency("INR");
+        user.setPasswordHash("not-used");
+        userRepository.save(user);
+
+        RollupDriftReport report = new RollupDriftReport(true);
+        transactionTemplate.executeWithoutResult(status -> spendRollupService.verifyUser(user, true, report));
+
+        assertThat(report.hasDrift()).isFalse();
+    }
+}
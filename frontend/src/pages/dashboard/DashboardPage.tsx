@@ -2,7 +2,7 @@ import { useEffect, useMemo, useState } from 'react';
 import api from '../../api/client';
 import type { DashboardSummary } from '../../types';
 import { useAuth } from '../../context/AuthContext';
-import { formatCurrency, formatDate, formatPercent } from '../../utils/format';
+import { formatCurrency, formatDate, formatOptionalCurrency, formatPercent } from '../../utils/format';
 import { Link } from 'react-router-dom';
 
 const DashboardPage = () => {
@@ -67,10 +67,18 @@ const DashboardPage = () => {
 
   return (
     <div className="dashboard-page">
+      {summary.degradedSections?.length ? (
+        <div className="form-error">
+          Some dashboard sections are temporarily unavailable.{' '}
+          <button type="button" className="auth-footer-link" onClick={loadSummary}>
+            Refresh
+          </button>
+        </div>
+      ) : null}
       <div className="kpi-grid">
         <div className="kpi-card">
           <span className="kpi-label">Total Savings</span>
-          <span className="kpi-value">{formatCurrency(summary.totalSavings, currency)}</span>
+          <span className="kpi-value">{formatOptionalCurrency(summary.totalSavings, currency)}</span>
           <span className="kpi-caption">
             {summary.activeSavingsGoals} active goal
             {summary.activeSavingsGoals === 1 ? '' : 's'}
@@ -79,13 +87,13 @@ const DashboardPage = () => {
         <div className="kpi-card">
           <span className="kpi-label">Total Spent This Month</span>
           <span className="kpi-value">
-            {formatCurrency(summary.totalSpentThisMonth, currency)}
+            {formatOptionalCurrency(summary.totalSpentThisMonth, currency)}
           </span>
           <span className="kpi-caption">Updated in real time from your expenses</span>
         </div>
         <div className="kpi-card">
           <span className="kpi-label">Total Spent Today</span>
-          <span className="kpi-value">{formatCurrency(summary.totalSpentToday, currency)}</span>
+          <span className="kpi-value">{formatOptionalCurrency(summary.totalSpentToday, currency)}</span>
           <span className="kpi-caption">Stay mindful of today&apos;s spending</span>
         </div>
       </div>
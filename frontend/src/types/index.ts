@@ -83,13 +83,14 @@ export interface BudgetPayload {
 }
 
 export interface DashboardSummary {
-  totalSavings: number;
-  totalSpentThisMonth: number;
-  totalSpentToday: number;
+  totalSavings: number | null;
+  totalSpentThisMonth: number | null;
+  totalSpentToday: number | null;
   activeSavingsGoals: number;
   savingsGoalsPreview: SavingsGoal[];
   spendingByCategory: Record<string, number>;
   recentExpenses: Expense[];
+  degradedSections?: string[];
 }
 
 export interface Settings {
@@ -17,6 +17,11 @@ export const formatCurrency = (amount: number | undefined | null, currency: stri
   })}`;
 };
 
+export const formatOptionalCurrency = (
+  amount: number | undefined | null,
+  currency: string
+): string => (typeof amount === 'number' ? formatCurrency(amount, currency) : '-');
+
 export const formatCompactCurrency = (
   amount: number | undefined | null,
   currency: string